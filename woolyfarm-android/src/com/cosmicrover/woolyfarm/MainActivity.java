@@ -1,5 +1,6 @@
 package com.cosmicrover.woolyfarm;
 
+import android.content.pm.ApplicationInfo;
 import android.os.Bundle;
 
 import com.badlogic.gdx.backends.android.AndroidApplication;
@@ -15,6 +16,14 @@ public class MainActivity extends AndroidApplication {
         AndroidApplicationConfiguration cfg = new AndroidApplicationConfiguration();
         cfg.useGL20 = false;
         
-        initialize(new WoolyFarmGame(new GameEnvironment(Platform.Android)), cfg);
+        // Rename saved files into place and decode assets on every processor
+        GameEnvironment gameEnvironment = new GameEnvironment(Platform.Android);
+        gameEnvironment.setFileReplacer(new RenameFileReplacer());
+        gameEnvironment.setProcessors(Runtime.getRuntime().availableProcessors());
+        
+        // Enable the debugging aids in debuggable builds only
+        gameEnvironment.setDebug((getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0);
+        
+        initialize(new WoolyFarmGame(gameEnvironment), cfg);
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.cosmicrover.woolyfarm;
+
+import java.io.File;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.cosmicrover.core.GroupCatalog;
+import com.cosmicrover.core.GroupManager;
+import com.cosmicrover.core.GroupPack;
+import com.cosmicrover.core.LevelManager;
+import com.cosmicrover.woolyfarm.assets.LevelBinary;
+
+/**
+ * LevelPackager packages the binary level files (.lbf) of each group into the
+ * group pack file (see GroupPack) and writes the group catalog (see
+ * GroupCatalog) listing every group packaged. Run it on the assets directory
+ * before shipping:
+ *   java com.cosmicrover.woolyfarm.LevelPackager <assets directory>
+ */
+public class LevelPackager {
+	public static void main(String[] args) {
+		FileHandle assets = new FileHandle(new File(args.length > 0 ? args[0] : "."));
+		GroupCatalog catalog = new GroupCatalog();
+
+		// Package each group directory holding binary level files
+		for(int groupId=0; groupId<=GroupManager.MAX_GROUPS; groupId++) {
+			IntMap<byte[]> levels = new IntMap<byte[]>();
+			Array<byte[]> levelBytes = new Array<byte[]>();
+			for(int levelId=0; levelId<=LevelManager.MAX_LEVELS; levelId++) {
+				FileHandle level = assets.child(LevelBinary.getFilename(LevelManager.getFilename(groupId, levelId)));
+				if(level.exists()) {
+					levels.put(levelId, level.readBytes());
+					levelBytes.add(levels.get(levelId));
+				}
+			}
+			if(levels.size > 0) {
+				FileHandle pack = assets.child(GroupPack.getFilename(LevelManager.getFilename(groupId, 0)));
+				GroupPack.write(pack, levels);
+				catalog.put(groupId, getGroupName(assets, groupId), levels.size, GroupCatalog.hash(levelBytes));
+				System.out.println("Packaged " + levels.size + " levels into " + pack.path());
+			}
+		}
+
+		// Write the catalog of every group packaged
+		FileHandle catalogFile = assets.child(GroupCatalog.CATALOG_FILENAME);
+		catalog.save(catalogFile);
+		System.out.println("Wrote " + catalog.getGroups().size + " groups to " + catalogFile.path());
+	}
+
+	private static String getGroupName(FileHandle assets, int groupId) {
+		String result = null;
+		FileHandle group = assets.child(GroupManager.getFilename(groupId));
+		if(group.exists()) {
+			JsonValue root = new JsonReader().parse(group);
+			result = root.getString("name", null);
+		}
+		return result;
+	}
+}
@@ -13,6 +13,16 @@ public class Main {
 		cfg.width = 480;
 		cfg.height = 320;
 		
-		new LwjglApplication(new WoolyFarmGame(new GameEnvironment(Platform.Desktop)), cfg);
+		// Read group pack files through memory mapped files on the desktop,
+		// rename saved files into place and decode assets on every processor
+		GameEnvironment gameEnvironment = new GameEnvironment(Platform.Desktop);
+		gameEnvironment.setPackReader(new MappedPackReader());
+		gameEnvironment.setFileReplacer(new RenameFileReplacer());
+		gameEnvironment.setProcessors(Runtime.getRuntime().availableProcessors());
+
+		// Enable the debugging aids when run with -Dwoolyfarm.debug=true
+		gameEnvironment.setDebug(Boolean.getBoolean("woolyfarm.debug"));
+		
+		new LwjglApplication(new WoolyFarmGame(gameEnvironment), cfg);
 	}
 }
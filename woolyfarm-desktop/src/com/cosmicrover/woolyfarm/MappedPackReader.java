@@ -0,0 +1,66 @@
+package com.cosmicrover.woolyfarm;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.cosmicrover.core.PackReader;
+import com.cosmicrover.core.StreamPackReader;
+
+/**
+ * MappedPackReader memory maps each pack file the first time it is read, so
+ * reading a level is a copy out of the mapped file. Pack files that are not
+ * regular files (e.g. found on the classpath) are read with a stream.
+ */
+public class MappedPackReader implements PackReader {
+	/// Mapped pack files by path
+	private final ObjectMap<String, MappedByteBuffer> buffers = new ObjectMap<String, MappedByteBuffer>();
+
+	/// Used for pack files that can't be mapped
+	private final StreamPackReader streamReader = new StreamPackReader();
+
+	@Override
+	public byte[] read(FileHandle file, int offset, int length) {
+		byte[] result;
+		ByteBuffer buffer = map(file);
+		if(buffer != null) {
+			result = new byte[length];
+			buffer.position(offset);
+			buffer.get(result);
+		} else {
+			result = streamReader.read(file, offset, length);
+		}
+		return result;
+	}
+
+	private synchronized ByteBuffer map(FileHandle file) {
+		MappedByteBuffer buffer = buffers.get(file.path());
+		if(buffer == null) {
+			File packFile = file.file();
+			if(packFile.isFile()) {
+				try {
+					RandomAccessFile input = new RandomAccessFile(packFile, "r");
+					try {
+						FileChannel channel = input.getChannel();
+						buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+					} finally {
+						// The mapping stays valid after the file is closed
+						input.close();
+					}
+				} catch (IOException e) {
+					throw new GdxRuntimeException("Unable to map " + file.path(), e);
+				}
+				buffers.put(file.path(), buffer);
+			}
+		}
+
+		// Each caller gets its own position (may be called from several threads)
+		return buffer != null ? buffer.duplicate() : null;
+	}
+}
@@ -0,0 +1,26 @@
+package com.cosmicrover.woolyfarm;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.cosmicrover.core.FileReplacer;
+
+/**
+ * RenameFileReplacer renames the temporary file over the saved file, so the
+ * saved file is replaced atomically instead of being copied over. The file is
+ * copied (FileHandle.moveTo) only if it can't be renamed.
+ */
+public class RenameFileReplacer implements FileReplacer {
+	@Override
+	public void replace(FileHandle temp, FileHandle file) {
+		// Some file systems (Windows) won't rename over an existing file
+		boolean renamed = temp.file().renameTo(file.file());
+		if(!renamed && file.exists()) {
+			file.delete();
+			renamed = temp.file().renameTo(file.file());
+		}
+
+		// Copy then delete if the rename wasn't possible
+		if(!renamed) {
+			temp.moveTo(file);
+		}
+	}
+}
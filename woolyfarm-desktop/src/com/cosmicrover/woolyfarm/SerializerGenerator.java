@@ -0,0 +1,288 @@
+package com.cosmicrover.woolyfarm;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Collection;
+import java.util.Map;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ArrayMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * SerializerGenerator generates a DataSerializer for each data class provided
+ * plus the GeneratedSerializers class registering them, so the game reads and
+ * writes its data files without Json reflection (slow on Android and costly
+ * on GWT). Fields are accessed directly (the serializer is generated in the
+ * package of its data class) and containers are read and written with their
+ * element type, so no field goes through reflection. Classes with fields the
+ * serializer can't access are skipped. Run it whenever a data class changes:
+ *   java com.cosmicrover.woolyfarm.SerializerGenerator <source directory> [classes]
+ */
+public class SerializerGenerator {
+	/// Data classes serialized by JsonDataLoader
+	private static final String[] DATA_CLASSES = {
+		"com.cosmicrover.woolyfarm.assets.WoolyGameData",
+		"com.cosmicrover.woolyfarm.assets.WoolyGroupData",
+		"com.cosmicrover.woolyfarm.assets.WoolyLevelData",
+		"com.cosmicrover.woolyfarm.assets.MapData",
+	};
+
+	/// Package (and class) of the generated registration code
+	private static final String REGISTRY_PACKAGE = "com.cosmicrover.woolyfarm.assets";
+	private static final String REGISTRY_CLASS = "GeneratedSerializers";
+
+	public static void main(String[] args) throws ClassNotFoundException {
+		FileHandle sourceDirectory = new FileHandle(new File(args.length > 0 ? args[0] : "src"));
+		String[] classNames = args.length > 1 ? new String[args.length - 1] : DATA_CLASSES;
+		if(args.length > 1) {
+			System.arraycopy(args, 1, classNames, 0, classNames.length);
+		}
+
+		// Generate a serializer for each data class that can be generated
+		Array<Class<?>> generated = new Array<Class<?>>();
+		for(String className : classNames) {
+			Class<?> type = Class.forName(className);
+			String reason = getSkipReason(type);
+			if(reason == null) {
+				FileHandle file = sourceDirectory.child(type.getName().replace('.', '/') + "Serializer.java");
+				file.writeString(generateSerializer(type), false);
+				generated.add(type);
+				System.out.println("Generated " + file.path());
+			} else {
+				System.out.println("Skipped " + className + " (" + reason + ")");
+			}
+		}
+
+		// Generate the class registering every serializer generated
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(REGISTRY_PACKAGE).append(";\r\n\r\n");
+		source.append("import com.cosmicrover.core.assets.loaders.DataSerializers;\r\n\r\n");
+		source.append("/**\r\n * Generated by SerializerGenerator, do not edit.\r\n */\r\n");
+		source.append("public class ").append(REGISTRY_CLASS).append(" {\r\n");
+		source.append("\tpublic static void register() {\r\n");
+		for(Class<?> type : generated) {
+			source.append("\t\tDataSerializers.register(").append(type.getCanonicalName()).append(".class, new ")
+				.append(type.getName()).append("Serializer());\r\n");
+		}
+		source.append("\t}\r\n}\r\n");
+		FileHandle registry = sourceDirectory.child(REGISTRY_PACKAGE.replace('.', '/') + "/" + REGISTRY_CLASS + ".java");
+		registry.writeString(source.toString(), false);
+		System.out.println("Generated " + registry.path());
+	}
+
+	/**
+	 * Returns why no serializer can be generated for the class provided or
+	 * null if one can.
+	 */
+	private static String getSkipReason(Class<?> type) {
+		String result = null;
+		if(!canInstantiate(type)) {
+			result = "no public no-arg constructor";
+		} else {
+			for(Field field : getFields(type)) {
+				if(result == null && !isAccessible(type, field)) {
+					result = "field " + field.getName() + " isn't accessible from " + type.getPackage().getName();
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns true if the serializer generated in the package of the class
+	 * provided can access the field provided directly (public fields, and
+	 * package-private or protected fields declared in the same package).
+	 */
+	private static boolean isAccessible(Class<?> type, Field field) {
+		int modifiers = field.getModifiers();
+		return Modifier.isPublic(modifiers) ||
+			(!Modifier.isPrivate(modifiers) && field.getDeclaringClass().getPackage().equals(type.getPackage()));
+	}
+
+	private static boolean canInstantiate(Class<?> type) {
+		boolean result = false;
+		if(!Modifier.isAbstract(type.getModifiers()) && Modifier.isPublic(type.getModifiers())) {
+			try {
+				result = Modifier.isPublic(type.getConstructor().getModifiers());
+			} catch (NoSuchMethodException e) {
+				result = false;
+			}
+		}
+		return result;
+	}
+
+	private static String generateSerializer(Class<?> type) {
+		String typeName = type.getCanonicalName();
+		String serializerName = type.getSimpleName() + "Serializer";
+		Array<Field> fields = getFields(type);
+
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(type.getPackage().getName()).append(";\r\n\r\n");
+		source.append("import com.badlogic.gdx.utils.Json;\r\n");
+		source.append("import com.badlogic.gdx.utils.JsonValue;\r\n");
+		source.append("import com.cosmicrover.core.assets.loaders.DataSerializer;\r\n\r\n");
+		source.append("/**\r\n * Generated by SerializerGenerator, do not edit.\r\n */\r\n");
+		source.append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\r\n");
+		source.append("public class ").append(serializerName).append(" extends DataSerializer<").append(typeName).append("> {\r\n");
+
+		// Write each field
+		source.append("\t@Override\r\n\tpublic void writeFields(Json json, ").append(typeName).append(" object) {\r\n");
+		for(Field field : fields) {
+			String name = field.getName();
+			Class<?> elementType = getElementType(type, field);
+			if(field.getType().isPrimitive() || field.getType() == String.class) {
+				source.append("\t\tjson.writeValue(\"").append(name).append("\", object.").append(name).append(");\r\n");
+			} else if(elementType != null) {
+				source.append("\t\tjson.writeValue(\"").append(name).append("\", object.").append(name)
+					.append(", ").append(field.getType().getCanonicalName()).append(".class, ")
+					.append(elementType.getCanonicalName()).append(".class);\r\n");
+			} else {
+				source.append("\t\tjson.writeValue(\"").append(name).append("\", object.").append(name)
+					.append(", ").append(field.getType().getCanonicalName()).append(".class);\r\n");
+			}
+		}
+		source.append("\t}\r\n\r\n");
+
+		// Read each field (missing fields keep their value)
+		source.append("\t@Override\r\n\tpublic void readFields(Json json, JsonValue jsonData, ").append(typeName).append(" object) {\r\n");
+		for(Field field : fields) {
+			String name = field.getName();
+			Class<?> fieldType = field.getType();
+			String getter = getGetter(fieldType);
+			Class<?> elementType = getElementType(type, field);
+			if(getter != null) {
+				String cast = fieldType == short.class || fieldType == byte.class ? "(" + fieldType.getName() + ")" : "";
+				source.append("\t\tobject.").append(name).append(" = ").append(cast).append("jsonData.").append(getter)
+					.append("(\"").append(name).append("\", object.").append(name).append(");\r\n");
+			} else if(elementType != null) {
+				String fieldTypeName = fieldType.getCanonicalName();
+				source.append("\t\tobject.").append(name).append(" = json.readValue(\"")
+					.append(name).append("\", ").append(fieldTypeName).append(".class, ").append(elementType.getCanonicalName())
+					.append(".class, object.").append(name).append(", jsonData);\r\n");
+			} else {
+				String fieldTypeName = fieldType.getCanonicalName();
+				source.append("\t\tobject.").append(name).append(" = json.readValue(\"")
+					.append(name).append("\", ").append(fieldTypeName).append(".class, object.").append(name).append(", jsonData);\r\n");
+			}
+		}
+		source.append("\t}\r\n\r\n");
+
+		source.append("\t@Override\r\n\tprotected ").append(typeName).append(" newInstance() {\r\n");
+		source.append("\t\treturn new ").append(typeName).append("();\r\n\t}\r\n}\r\n");
+		return source.toString();
+	}
+
+	/**
+	 * Returns the fields Json reflection would serialize (non static, non
+	 * transient and non final fields of the class and its super classes).
+	 */
+	private static Array<Field> getFields(Class<?> type) {
+		Array<Field> result = new Array<Field>();
+		for(Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			for(Field field : current.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if(!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) &&
+				   !Modifier.isFinal(modifiers) && !field.isSynthetic()) {
+					result.add(field);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the element type Json needs to read and write the field
+	 * provided of the class provided (the component type of arrays, the
+	 * element type of collections and the value type of maps) or null if the
+	 * field isn't a container or its element type is unknown.
+	 */
+	private static Class<?> getElementType(Class<?> type, Field field) {
+		Class<?> result = null;
+		Class<?> fieldType = field.getType();
+		if(fieldType.isArray()) {
+			result = fieldType.getComponentType();
+		} else if(isContainer(fieldType) && field.getGenericType() instanceof ParameterizedType) {
+			// Maps are read and written with the type of their values
+			Type[] arguments = ((ParameterizedType)field.getGenericType()).getActualTypeArguments();
+			result = toClass(resolveVariable(type, arguments[arguments.length - 1]));
+		}
+		return result;
+	}
+
+	private static boolean isContainer(Class<?> fieldType) {
+		return Array.class.isAssignableFrom(fieldType) || Collection.class.isAssignableFrom(fieldType) ||
+			ObjectMap.class.isAssignableFrom(fieldType) || ArrayMap.class.isAssignableFrom(fieldType) ||
+			Map.class.isAssignableFrom(fieldType);
+	}
+
+	/**
+	 * Returns the type argument the class provided passes for the type
+	 * variable provided (declared by one of its super classes), or the type
+	 * provided if it isn't a type variable.
+	 */
+	private static Type resolveVariable(Class<?> type, Type argument) {
+		// Walk down from the super classes to the class provided, following
+		// the type arguments each class passes to its super class
+		Array<Class<?>> hierarchy = new Array<Class<?>>();
+		for(Class<?> current = type; current != null; current = current.getSuperclass()) {
+			hierarchy.add(current);
+		}
+		Type result = argument;
+		for(int i=hierarchy.size-1; i>0 && result instanceof TypeVariable; i--) {
+			TypeVariable<?>[] variables = hierarchy.get(i).getTypeParameters();
+			Type superclass = hierarchy.get(i - 1).getGenericSuperclass();
+			int index = 0;
+			while(index < variables.length && !variables[index].equals(result)) {
+				index++;
+			}
+			if(index < variables.length && superclass instanceof ParameterizedType) {
+				result = ((ParameterizedType)superclass).getActualTypeArguments()[index];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the class of the type provided (the raw type of parameterized
+	 * types and the first bound of unresolved type variables).
+	 */
+	private static Class<?> toClass(Type type) {
+		Class<?> result = null;
+		if(type instanceof Class) {
+			result = (Class<?>)type;
+		} else if(type instanceof ParameterizedType) {
+			result = toClass(((ParameterizedType)type).getRawType());
+		} else if(type instanceof TypeVariable) {
+			result = toClass(((TypeVariable<?>)type).getBounds()[0]);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the JsonValue getter (with a default value) for the field type
+	 * provided or null if the value must be read with Json.readValue.
+	 */
+	private static String getGetter(Class<?> fieldType) {
+		String result = null;
+		if(fieldType == int.class || fieldType == short.class || fieldType == byte.class) {
+			result = "getInt";
+		} else if(fieldType == long.class) {
+			result = "getLong";
+		} else if(fieldType == float.class) {
+			result = "getFloat";
+		} else if(fieldType == double.class) {
+			result = "getDouble";
+		} else if(fieldType == boolean.class) {
+			result = "getBoolean";
+		} else if(fieldType == String.class) {
+			result = "getString";
+		}
+		return result;
+	}
+}
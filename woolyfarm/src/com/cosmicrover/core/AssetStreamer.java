@@ -0,0 +1,117 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+
+/**
+ * AssetStreamer updates the AssetManager with a time budget (in milliseconds)
+ * taken from each frame instead of letting a single update() call stall the
+ * frame. The budget is a share of the target frame time, scaled down while
+ * recently measured frame times are above the target. Loading screens use a
+ * large share; any other screen can keep loading in the background with a
+ * small share (see GameManager.render).
+ */
+public class AssetStreamer {
+	/// Share of the frame used by loading screens
+	public static final float LOADING_SHARE = 0.8f;
+
+	/// Share of the frame used for background streaming
+	public static final float BACKGROUND_SHARE = 0.25f;
+
+	/// Default target frame time (60 frames per second)
+	private static final float DEFAULT_TARGET_FRAME_MS = 1000.0f / 60.0f;
+
+	/// Smallest budget used so loading always makes progress
+	private static final int MIN_BUDGET_MS = 1;
+
+	/// Weight of the newest frame time in our moving average
+	private static final float AVERAGE_WEIGHT = 0.1f;
+
+	/// Longest frame time (in target frames) added to our moving average, so
+	/// the idle gap before an on demand frame doesn't collapse the budget
+	private static final float MAX_FRAME_SAMPLE = 4.0f;
+
+	private final AssetManager assetManager;
+
+	/// Frame time (in milliseconds) we want to stay within
+	private float targetFrame_ms = DEFAULT_TARGET_FRAME_MS;
+
+	/// Moving average of the measured frame times
+	private float averageFrame_ms = DEFAULT_TARGET_FRAME_MS;
+
+	/// Budget used by the last call to update
+	private int lastBudget_ms = 0;
+
+	public AssetStreamer(AssetManager assetManager) {
+		this.assetManager = assetManager;
+	}
+
+	/**
+	 * Sets the frame time loading should try to stay within.
+	 * @param framesPerSecond to target
+	 */
+	public void setTargetFrameRate(float framesPerSecond) {
+		targetFrame_ms = 1000.0f / framesPerSecond;
+	}
+
+	/**
+	 * Adds the duration of the last frame to our moving average. Called once
+	 * per frame by the GameManager.
+	 * @param delta time in seconds of the last frame
+	 */
+	public void frameRendered(float delta) {
+		float frame_ms = Math.min(delta * 1000.0f, MAX_FRAME_SAMPLE * targetFrame_ms);
+		averageFrame_ms += (frame_ms - averageFrame_ms) * AVERAGE_WEIGHT;
+	}
+
+	/**
+	 * Updates the AssetManager for the share of the frame provided.
+	 * @param share of the target frame time to spend loading (0 to 1)
+	 * @return true if every queued asset has been loaded
+	 */
+	public boolean update(float share) {
+		lastBudget_ms = getBudget(share);
+		return assetManager.update(lastBudget_ms);
+	}
+
+	/**
+	 * Returns the time budget for the share provided, reduced in proportion
+	 * to how far the recent frames have been over our target frame time.
+	 * @param share of the target frame time to spend loading (0 to 1)
+	 * @return budget in milliseconds
+	 */
+	public int getBudget(float share) {
+		float budget_ms = share * targetFrame_ms;
+		if(averageFrame_ms > targetFrame_ms) {
+			budget_ms *= targetFrame_ms / averageFrame_ms;
+		}
+		return Math.max(MIN_BUDGET_MS, (int)budget_ms);
+	}
+
+	public int getLastBudget() {
+		return lastBudget_ms;
+	}
+
+	/**
+	 * @return true if the AssetManager has assets waiting to be loaded
+	 */
+	public boolean isLoading() {
+		return assetManager.getQueuedAssets() > 0;
+	}
+
+	/**
+	 * Logs the loading progress provided only when it moved to another tenth
+	 * (or completed) since the last call.
+	 * @param tag to log with
+	 * @param percentComplete of the current loading (0 to 1)
+	 * @param lastLogged tenth returned by the previous call (-1 initially)
+	 * @return the tenth that is now logged
+	 */
+	public static int logProgress(String tag, float percentComplete, int lastLogged) {
+		int tenth = (int)(percentComplete * 10.0f);
+		if(tenth != lastLogged) {
+			Gdx.app.debug(tag, "Loading percent=" + percentComplete);
+		}
+		return tenth;
+	}
+}
@@ -0,0 +1,67 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.cosmicrover.core.screens.LoadingScreen;
+
+/**
+ * BootTimer records how long a cold start takes: time-to-first-frame (from
+ * start() until the first frame has been rendered) and time-to-interactive
+ * (from start() until the first frame of a screen that isn't a loading
+ * screen has been rendered). Both values are logged once and can be read
+ * afterwards, so cold start regressions can be measured on every platform.
+ */
+public class BootTimer {
+	/// Time (in milliseconds) start() was called (0 if not started)
+	private long startTime_ms = 0;
+
+	/// Measured durations in milliseconds (-1 until measured)
+	private long firstFrame_ms = -1;
+	private long interactive_ms = -1;
+
+	/**
+	 * Marks the beginning of the boot (called from ApplicationListener.create).
+	 */
+	public void start() {
+		startTime_ms = TimeUtils.millis();
+		firstFrame_ms = -1;
+		interactive_ms = -1;
+	}
+
+	/**
+	 * Called after each frame has been rendered until the boot is complete.
+	 * @param screen that rendered the frame (may be null)
+	 */
+	public void frameRendered(Screen screen) {
+		if(startTime_ms != 0 && !isComplete()) {
+			long elapsed_ms = TimeUtils.millis() - startTime_ms;
+			if(firstFrame_ms < 0) {
+				firstFrame_ms = elapsed_ms;
+				Gdx.app.log("BootTimer", "Time to first frame=" + firstFrame_ms + "ms");
+			}
+			if(screen != null && !(screen instanceof LoadingScreen)) {
+				interactive_ms = elapsed_ms;
+				Gdx.app.log("BootTimer", "Time to interactive=" + interactive_ms + "ms");
+			}
+		}
+	}
+
+	public boolean isComplete() {
+		return interactive_ms >= 0;
+	}
+
+	/**
+	 * @return milliseconds until the first frame was rendered (-1 if not yet)
+	 */
+	public long getTimeToFirstFrame() {
+		return firstFrame_ms;
+	}
+
+	/**
+	 * @return milliseconds until the first interactive screen was rendered (-1 if not yet)
+	 */
+	public long getTimeToInteractive() {
+		return interactive_ms;
+	}
+}
@@ -0,0 +1,148 @@
+package com.cosmicrover.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * CatalogSnapshot is a compact binary copy of the resolved group catalog
+ * along with the hash of the catalog it was taken from. At startup a
+ * snapshot whose hash still matches the catalog file is restored instead of
+ * parsing the JSON catalog. The game data itself is always loaded from its
+ * own file (it holds more than the snapshot could restore), so the snapshot
+ * never replaces the player's progress. The snapshot is written again
+ * whenever the game data is saved so it follows catalog updates.
+ *
+ * Layout (big endian):
+ *   int    MAGIC
+ *   byte   VERSION
+ *   UTF    catalog hash
+ *   short  catalog entries, each: short groupId, UTF name, int levels, UTF hash
+ * where names are written as "" when null.
+ */
+public class CatalogSnapshot {
+	/// Local file holding the snapshot
+	public static final String SNAPSHOT_FILENAME = "catalog.snapshot";
+
+	/// Identifies a snapshot file ("WFCS")
+	private static final int MAGIC = 0x57464353;
+
+	/// Version of the layout written by encode
+	private static final byte VERSION = 2;
+
+	/// Hash written for a catalog that doesn't exist
+	private static final String NO_SOURCE = "";
+
+	/// Group catalog decoded by restore
+	private GroupCatalog catalog = null;
+
+	/**
+	 * Reads the snapshot from local storage and restores its catalog if it
+	 * was taken from the catalog file found now. Nothing is restored if the
+	 * snapshot is missing, stale or unreadable.
+	 * @return true if the snapshot was restored (see getCatalog)
+	 */
+	public boolean restore() {
+		boolean result = false;
+		if(Gdx.files.isLocalStorageAvailable() && Gdx.files.local(SNAPSHOT_FILENAME).exists()) {
+			try {
+				result = decode(Gdx.files.local(SNAPSHOT_FILENAME).readBytes(), hash(GroupCatalog.getFile()));
+			} catch (GdxRuntimeException e) {
+				Gdx.app.error("CatalogSnapshot", "Ignoring snapshot: " + e.getMessage());
+			}
+		}
+		if(!result) {
+			catalog = null;
+		}
+		return result;
+	}
+
+	/**
+	 * @return the catalog restored by restore() (null if not restored)
+	 */
+	public GroupCatalog getCatalog() {
+		return catalog;
+	}
+
+	/**
+	 * Writes a snapshot of the catalog provided to local storage in the
+	 * background. The catalog is hashed as it is written to its file (see
+	 * GroupCatalog.toJson) so the snapshot matches it once written.
+	 * @param saveService to write with
+	 * @param catalog to snapshot
+	 */
+	public void save(SaveService saveService, GroupCatalog catalog) {
+		if(Gdx.files.isLocalStorageAvailable()) {
+			String hash = catalog.isEmpty() && GroupCatalog.getFile() == null ? NO_SOURCE : hash(catalog.toJson());
+			saveService.write(SNAPSHOT_FILENAME, encode(catalog, hash), false);
+		}
+	}
+
+	private static byte[] encode(GroupCatalog catalog, String hash) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		try {
+			// Write our header and the hash of our catalog
+			output.writeInt(MAGIC);
+			output.writeByte(VERSION);
+			output.writeUTF(hash);
+
+			// Write the catalog entries
+			output.writeShort(catalog.getGroups().size);
+			for(GroupCatalog.Entry entry : catalog.getGroups()) {
+				output.writeShort(entry.groupId);
+				output.writeUTF(entry.name != null ? entry.name : "");
+				output.writeInt(entry.levels);
+				output.writeUTF(entry.hash != null ? entry.hash : "");
+			}
+			output.close();
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Unable to encode " + SNAPSHOT_FILENAME, e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private boolean decode(byte[] bytes, String sourceHash) {
+		boolean result = false;
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+		try {
+			// Check our header and that our catalog hasn't changed
+			result = input.readInt() == MAGIC && input.readByte() == VERSION &&
+					sourceHash.equals(input.readUTF());
+
+			if(result) {
+				// Read the catalog entries
+				catalog = new GroupCatalog();
+				int entries = input.readShort();
+				for(int i=0; i<entries; i++) {
+					int groupId = input.readShort();
+					String name = input.readUTF();
+					int levels = input.readInt();
+					catalog.put(groupId, name.length() > 0 ? name : null, levels, input.readUTF());
+				}
+			}
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Unable to decode " + SNAPSHOT_FILENAME, e);
+		}
+		return result;
+	}
+
+	private static String hash(FileHandle file) {
+		return file != null ? GroupCatalog.hash(file.readBytes()) : NO_SOURCE;
+	}
+
+	private static String hash(String contents) {
+		try {
+			return GroupCatalog.hash(contents.getBytes("UTF-8"));
+		} catch (UnsupportedEncodingException e) {
+			throw new GdxRuntimeException("Unable to hash the catalog", e);
+		}
+	}
+}
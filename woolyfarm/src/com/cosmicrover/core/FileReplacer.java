@@ -0,0 +1,19 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * FileReplacer replaces a saved file with the temporary file it was written
+ * to (see SaveService). The default MoveFileReplacer works on every platform
+ * but copies the file; a platform with a file system can provide an atomic
+ * rename through GameEnvironment.setFileReplacer().
+ */
+public interface FileReplacer {
+	/**
+	 * Replaces the file provided with the temporary file provided. Called
+	 * from the SaveService write thread.
+	 * @param temp file written that replaces the file
+	 * @param file to replace
+	 */
+	public void replace(FileHandle temp, FileHandle file);
+}
@@ -0,0 +1,363 @@
+package com.cosmicrover.core;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.cosmicrover.core.GameEnvironment.Platform;
+
+/**
+ * FrameProfiler collects per-frame timings (whole frame, stage act, stage
+ * draw and input handling), SpriteBatch render calls and Java heap changes
+ * for the last HISTORY_SIZE frames. In debug builds (see
+ * GameEnvironment.isDebug) rolling percentiles are shown in an overlay
+ * toggled with F3 (or a three finger tap on touch screens) and the history
+ * can be written to a local CSV file with F4 (or a four finger tap, or by
+ * calling dump()).
+ */
+public class FrameProfiler implements Disposable {
+	/// Number of frames kept in our rolling history
+	private static final int HISTORY_SIZE = 300;
+
+	/// How often (in seconds) the overlay text is recomputed
+	private static final float OVERLAY_UPDATE_S = 0.5f;
+
+	/// File (local storage) written by dump()
+	private static final String DUMP_FILENAME = "frame_profile.csv";
+
+	/// Pointers of the third and fourth finger down (three finger tap toggles
+	/// the overlay, four finger tap dumps the history)
+	private static final int OVERLAY_POINTER = 2;
+	private static final int DUMP_POINTER = 3;
+
+	/// Nanoseconds per millisecond
+	private static final float NS_PER_MS = 1000000.0f;
+
+	/// Rolling history of each frame (oldest entry at historyIndex once full)
+	private final float[] frameTimes = new float[HISTORY_SIZE];
+	private final float[] actTimes = new float[HISTORY_SIZE];
+	private final float[] drawTimes = new float[HISTORY_SIZE];
+	private final float[] inputTimes = new float[HISTORY_SIZE];
+	private final int[] renderCalls = new int[HISTORY_SIZE];
+	private final long[] heapDeltas = new long[HISTORY_SIZE];
+	private int historyIndex = 0;
+	private int historyCount = 0;
+
+	/// Scratch array used to sort the frame times for percentiles
+	private final float[] sortedTimes = new float[HISTORY_SIZE];
+
+	/// Accumulators for the frame being profiled
+	private long frameStart = 0;
+	private long actStart = 0;
+	private long drawStart = 0;
+	private long actNanos = 0;
+	private long drawNanos = 0;
+	private long inputNanos = 0;
+	private int frameRenderCalls = 0;
+	private long heapStart = 0;
+
+	/// Totals since the profiler was created
+	private long totalRenderCalls = 0;
+	private int gcCount = 0;
+	private long lastHeapEnd = 0;
+
+	/// Can the history be written to local storage on this platform?
+	private final boolean canDump;
+
+	/// Are the overlay and its keys and gestures enabled (debug builds)?
+	private final boolean enabled;
+
+	/// Overlay state
+	private boolean overlayVisible = false;
+	private BitmapFont overlayFont = null;
+	private final Matrix4 overlayProjection = new Matrix4();
+	private final Matrix4 savedTransform = new Matrix4();
+	private final Matrix4 savedProjection = new Matrix4();
+	private final StringBuilder overlayText = new StringBuilder();
+	private float overlayAccumulator_s = OVERLAY_UPDATE_S;
+
+	public FrameProfiler(GameEnvironment gameEnvironment) {
+		this.canDump = Platform.HTML != gameEnvironment.getPlatform() &&
+				Platform.Applet != gameEnvironment.getPlatform();
+		this.enabled = gameEnvironment.isDebug();
+	}
+
+	/**
+	 * Wraps the InputProcessor provided so the time spent handling input is
+	 * profiled (input is handled between frames, so it is counted in the next
+	 * frame). The F3 and F4 keys and the three and four finger taps are
+	 * consumed to toggle the overlay and dump the history. The processor is
+	 * returned as is unless debugging aids are enabled.
+	 * @param processor to wrap
+	 * @return the InputProcessor to register with Gdx.input
+	 */
+	public InputProcessor wrap(InputProcessor processor) {
+		return enabled ? new ProfilingInputProcessor(processor) : processor;
+	}
+
+	public void beginFrame() {
+		frameStart = TimeUtils.nanoTime();
+		heapStart = Gdx.app.getJavaHeap();
+		actNanos = 0;
+		drawNanos = 0;
+		frameRenderCalls = 0;
+	}
+
+	public void beginAct() {
+		actStart = TimeUtils.nanoTime();
+	}
+
+	public void endAct() {
+		actNanos += TimeUtils.nanoTime() - actStart;
+	}
+
+	public void beginDraw() {
+		drawStart = TimeUtils.nanoTime();
+	}
+
+	/**
+	 * Ends the draw timing and adds the render calls of the batch provided
+	 * (SpriteBatch.renderCalls counts the calls since its last begin()).
+	 * @param batch that was just used to draw (may be null)
+	 */
+	public void endDraw(SpriteBatch batch) {
+		drawNanos += TimeUtils.nanoTime() - drawStart;
+		if(batch != null) {
+			frameRenderCalls += batch.renderCalls;
+		}
+	}
+
+	public void endFrame() {
+		long heapEnd = Gdx.app.getJavaHeap();
+
+		// A drop in heap usage (between or during frames) means the GC ran
+		if(heapStart < lastHeapEnd || heapEnd < heapStart) {
+			gcCount++;
+		}
+		lastHeapEnd = heapEnd;
+		totalRenderCalls += frameRenderCalls;
+
+		// Record this frame in our rolling history
+		frameTimes[historyIndex] = (TimeUtils.nanoTime() - frameStart) / NS_PER_MS;
+		actTimes[historyIndex] = actNanos / NS_PER_MS;
+		drawTimes[historyIndex] = drawNanos / NS_PER_MS;
+		inputTimes[historyIndex] = inputNanos / NS_PER_MS;
+		renderCalls[historyIndex] = frameRenderCalls;
+		heapDeltas[historyIndex] = heapEnd - heapStart;
+		historyIndex = (historyIndex + 1) % HISTORY_SIZE;
+		historyCount = Math.min(historyCount + 1, HISTORY_SIZE);
+		inputNanos = 0;
+	}
+
+	public boolean isOverlayVisible() {
+		return overlayVisible;
+	}
+
+	public void setOverlayVisible(boolean overlayVisible) {
+		this.overlayVisible = enabled && overlayVisible;
+		overlayAccumulator_s = OVERLAY_UPDATE_S;
+	}
+
+	/**
+	 * Draws the overlay (if visible) in the top left corner of the screen.
+	 * @param batch to draw with (must not be between begin and end)
+	 */
+	public void drawOverlay(SpriteBatch batch) {
+		if(overlayVisible && historyCount > 0) {
+			// Only recompute the percentiles a couple of times per second
+			overlayAccumulator_s += Gdx.graphics.getDeltaTime();
+			if(overlayAccumulator_s >= OVERLAY_UPDATE_S) {
+				overlayAccumulator_s = 0.0f;
+				updateOverlayText();
+			}
+
+			if(overlayFont == null) {
+				overlayFont = new BitmapFont();
+				overlayFont.setColor(Color.YELLOW);
+			}
+			// Draw in screen coordinates, restoring the matrices of the shared batch
+			savedTransform.set(batch.getTransformMatrix());
+			savedProjection.set(batch.getProjectionMatrix());
+			overlayProjection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+			batch.getTransformMatrix().idt();
+			batch.setProjectionMatrix(overlayProjection);
+			batch.begin();
+			overlayFont.drawMultiLine(batch, overlayText, 5, Gdx.graphics.getHeight() - 5);
+			batch.end();
+			batch.setTransformMatrix(savedTransform);
+			batch.setProjectionMatrix(savedProjection);
+		}
+	}
+
+	/**
+	 * Writes the rolling history (oldest frame first) to a CSV file in local
+	 * storage. Does nothing on platforms without local storage.
+	 */
+	public void dump() {
+		if(canDump) {
+			StringBuilder csv = new StringBuilder("frame_ms,act_ms,draw_ms,input_ms,render_calls,heap_delta_bytes\n");
+			int start = (historyIndex - historyCount + HISTORY_SIZE) % HISTORY_SIZE;
+			for(int i=0; i<historyCount; i++) {
+				int entry = (start + i) % HISTORY_SIZE;
+				csv.append(frameTimes[entry]).append(',')
+				   .append(actTimes[entry]).append(',')
+				   .append(drawTimes[entry]).append(',')
+				   .append(inputTimes[entry]).append(',')
+				   .append(renderCalls[entry]).append(',')
+				   .append(heapDeltas[entry]).append('\n');
+			}
+			FileHandle file = Gdx.files.local(DUMP_FILENAME);
+			file.writeString(csv.toString(), false);
+			Gdx.app.log("FrameProfiler", "Wrote " + historyCount + " frames to " + file.path());
+		} else {
+			Gdx.app.log("FrameProfiler", "Local storage not available, dump skipped");
+		}
+	}
+
+	@Override
+	public void dispose() {
+		if(overlayFont != null) {
+			overlayFont.dispose();
+			overlayFont = null;
+		}
+	}
+
+	private void updateOverlayText() {
+		System.arraycopy(frameTimes, 0, sortedTimes, 0, historyCount);
+		Arrays.sort(sortedTimes, 0, historyCount);
+
+		overlayText.setLength(0);
+		overlayText.append("fps ").append(Gdx.graphics.getFramesPerSecond())
+			.append("  frame ms p50 ").append(percentile(0.50f))
+			.append(" p95 ").append(percentile(0.95f))
+			.append(" p99 ").append(percentile(0.99f))
+			.append(" max ").append(sortedTimes[historyCount - 1]).append('\n');
+		overlayText.append("avg ms act ").append(average(actTimes))
+			.append(" draw ").append(average(drawTimes))
+			.append(" input ").append(average(inputTimes)).append('\n');
+		int last = (historyIndex - 1 + HISTORY_SIZE) % HISTORY_SIZE;
+		overlayText.append("render calls ").append(renderCalls[last])
+			.append(" total ").append(totalRenderCalls).append('\n');
+		overlayText.append("heap KB ").append(lastHeapEnd / 1024)
+			.append(" delta ").append(heapDeltas[last] / 1024)
+			.append("  gc ").append(gcCount);
+	}
+
+	private float percentile(float fraction) {
+		return sortedTimes[(int)(fraction * (historyCount - 1))];
+	}
+
+	private float average(float[] times) {
+		float total = 0.0f;
+		for(int i=0; i<historyCount; i++) {
+			total += times[i];
+		}
+		return total / historyCount;
+	}
+
+	/**
+	 * ProfilingInputProcessor times each input event handled by the wrapped
+	 * processor and handles the profiler keys and touch gestures.
+	 */
+	private final class ProfilingInputProcessor implements InputProcessor {
+		private final InputProcessor processor;
+
+		public ProfilingInputProcessor(InputProcessor processor) {
+			this.processor = processor;
+		}
+
+		@Override
+		public boolean keyDown(int keycode) {
+			boolean consumed = true;
+			if(keycode == Input.Keys.F3) {
+				setOverlayVisible(!overlayVisible);
+			} else if(keycode == Input.Keys.F4) {
+				dump();
+			} else {
+				long start = TimeUtils.nanoTime();
+				consumed = processor.keyDown(keycode);
+				inputNanos += TimeUtils.nanoTime() - start;
+			}
+			return consumed;
+		}
+
+		@Override
+		public boolean keyUp(int keycode) {
+			long start = TimeUtils.nanoTime();
+			boolean consumed = processor.keyUp(keycode);
+			inputNanos += TimeUtils.nanoTime() - start;
+			return consumed;
+		}
+
+		@Override
+		public boolean keyTyped(char character) {
+			long start = TimeUtils.nanoTime();
+			boolean consumed = processor.keyTyped(character);
+			inputNanos += TimeUtils.nanoTime() - start;
+			return consumed;
+		}
+
+		@Override
+		public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+			boolean consumed = true;
+			if(pointer == OVERLAY_POINTER) {
+				setOverlayVisible(!overlayVisible);
+			} else if(pointer == DUMP_POINTER) {
+				// Undo the toggle of the third finger
+				setOverlayVisible(!overlayVisible);
+				dump();
+			} else if(pointer < OVERLAY_POINTER) {
+				long start = TimeUtils.nanoTime();
+				consumed = processor.touchDown(screenX, screenY, pointer, button);
+				inputNanos += TimeUtils.nanoTime() - start;
+			}
+			return consumed;
+		}
+
+		@Override
+		public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+			boolean consumed = true;
+			if(pointer < OVERLAY_POINTER) {
+				long start = TimeUtils.nanoTime();
+				consumed = processor.touchUp(screenX, screenY, pointer, button);
+				inputNanos += TimeUtils.nanoTime() - start;
+			}
+			return consumed;
+		}
+
+		@Override
+		public boolean touchDragged(int screenX, int screenY, int pointer) {
+			boolean consumed = true;
+			if(pointer < OVERLAY_POINTER) {
+				long start = TimeUtils.nanoTime();
+				consumed = processor.touchDragged(screenX, screenY, pointer);
+				inputNanos += TimeUtils.nanoTime() - start;
+			}
+			return consumed;
+		}
+
+		@Override
+		public boolean mouseMoved(int screenX, int screenY) {
+			long start = TimeUtils.nanoTime();
+			boolean consumed = processor.mouseMoved(screenX, screenY);
+			inputNanos += TimeUtils.nanoTime() - start;
+			return consumed;
+		}
+
+		@Override
+		public boolean scrolled(int amount) {
+			long start = TimeUtils.nanoTime();
+			boolean consumed = processor.scrolled(amount);
+			inputNanos += TimeUtils.nanoTime() - start;
+			return consumed;
+		}
+	}
+}
@@ -23,6 +23,18 @@ public class GameEnvironment {
 	}
 	
 	private Platform platform = Platform.Unknown;
+
+	/// Reads level data from group pack files (see GroupPack)
+	private PackReader packReader = new StreamPackReader();
+
+	/// Replaces saved files with their temporary file (see SaveService)
+	private FileReplacer fileReplacer = new MoveFileReplacer();
+
+	/// Number of processors available to decode assets on
+	private int processors = 1;
+
+	/// Are debugging aids (e.g. the frame profiler overlay) enabled?
+	private boolean debug = false;
 	
 	public GameEnvironment(Platform platform) {
 		this.platform = platform;
@@ -31,6 +43,58 @@ public class GameEnvironment {
 	public Platform getPlatform() {
 		return platform;
 	}
+
+	public PackReader getPackReader() {
+		return packReader;
+	}
+
+	/**
+	 * Replaces the default StreamPackReader with a faster reader for this
+	 * platform (e.g. memory mapped files on the desktop).
+	 * @param packReader to use for group pack files
+	 */
+	public void setPackReader(PackReader packReader) {
+		this.packReader = packReader;
+	}
+
+	public FileReplacer getFileReplacer() {
+		return fileReplacer;
+	}
+
+	/**
+	 * Replaces the default MoveFileReplacer with an atomic one for this
+	 * platform (e.g. renaming files where a file system is available).
+	 * @param fileReplacer to use for saved files
+	 */
+	public void setFileReplacer(FileReplacer fileReplacer) {
+		this.fileReplacer = fileReplacer;
+	}
+
+	public int getProcessors() {
+		return processors;
+	}
+
+	/**
+	 * Sets the number of processors available on this platform (the backend
+	 * knows it, the shared code can't ask on every platform).
+	 * @param processors available, at least 1
+	 */
+	public void setProcessors(int processors) {
+		this.processors = Math.max(1, processors);
+	}
+
+	public boolean isDebug() {
+		return debug;
+	}
+
+	/**
+	 * Enables debugging aids such as the frame profiler overlay and its keys
+	 * and gestures (off by default so release builds don't have them).
+	 * @param debug is true to enable them
+	 */
+	public void setDebug(boolean debug) {
+		this.debug = debug;
+	}
 	
 	public Density getDensity() {
 		Density result = Density.Low;
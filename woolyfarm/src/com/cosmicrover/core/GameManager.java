@@ -5,18 +5,30 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.cosmicrover.core.GameEnvironment.Platform;
 import com.cosmicrover.core.assets.GameData;
 import com.cosmicrover.core.assets.GroupData;
 import com.cosmicrover.core.assets.LevelData;
+import com.cosmicrover.core.assets.loaders.AsyncMusicLoader;
 import com.cosmicrover.core.assets.loaders.JsonDataLoader;
+import com.cosmicrover.core.assets.loaders.ParallelAtlasLoader;
 import com.cosmicrover.core.screens.AbstractScreen;
+import com.cosmicrover.core.screens.LoadingScreen;
+import com.cosmicrover.core.ui.utils.AnimationClock;
+import com.cosmicrover.core.ui.utils.AtlasDrawables;
+import com.cosmicrover.core.ui.utils.StyleCache;
 
 public class GameManager<L extends LevelData, G extends GroupData<L>> implements Disposable {
     public GameData<L,G> data = null;
@@ -28,6 +40,39 @@ public class GameManager<L extends LevelData, G extends GroupData<L>> implements
 	private ShapeRenderer shapeRenderer = null;
 	private OrthogonalTiledMapRenderer mapRenderer = null;
 	private BackButtonHandler backButtonHandler = null;
+	private final ObjectMap<String, AtlasDrawables> atlasDrawables;
+	private final AnimationClock animationClock;
+	private final RenderScheduler renderScheduler;
+	private final FrameProfiler profiler;
+	private final StyleCache styleCache;
+	private final BootTimer bootTimer;
+	private final LoadQueue loadQueue;
+	private final AssetStreamer assetStreamer;
+	private final ScreenAssets screenAssets;
+	private final ParallelAtlasLoader atlasLoader;
+	private final MusicManager musicManager;
+	private final SaveService saveService;
+	private final ProgressJournal journal;
+	private final LevelCache<L> levelCache;
+	private final LevelPrefetcher<L> prefetcher;
+
+	/// Has the progress journal been replayed onto the loaded game data?
+	private boolean progressReplayed = false;
+
+	/// Warm-start snapshot of the catalog (see initData)
+	private final CatalogSnapshot snapshot = new CatalogSnapshot();
+
+	/// Was the catalog restored from the snapshot?
+	private boolean catalogRestored = false;
+
+	/// Manifest of every group available (loaded by initData)
+	private GroupCatalog catalog = new GroupCatalog();
+
+	/// Group packs opened so far by pack filename (null if there is no pack)
+	private final ObjectMap<String, GroupPack> groupPacks;
+
+	/// Screen a loading screen will switch to next (its assets stay referenced)
+	private Screen pendingScreen = null;
     
     /**
      * Creates the GameManager class that is responsible for providing
@@ -40,6 +85,31 @@ public class GameManager<L extends LevelData, G extends GroupData<L>> implements
     	this.game = game;
     	this.gameEnvironment = gameEnvironment;
     	this.inputMultiplexer = new InputMultiplexer();
+    	this.atlasDrawables = new ObjectMap<String, AtlasDrawables>();
+    	this.animationClock = new AnimationClock();
+    	this.renderScheduler = new RenderScheduler();
+    	this.profiler = new FrameProfiler(gameEnvironment);
+    	this.styleCache = new StyleCache(assetManager);
+    	this.bootTimer = new BootTimer();
+    	this.loadQueue = new LoadQueue(assetManager);
+    	this.assetStreamer = new AssetStreamer(assetManager);
+
+    	// Decode the pages of each TextureAtlas on every processor and open music
+    	// tracks on the loader thread (no threads on HTML)
+    	if(Platform.HTML != gameEnvironment.getPlatform()) {
+    		this.atlasLoader = new ParallelAtlasLoader(gameEnvironment.getProcessors());
+    		assetManager.setLoader(TextureAtlas.class, atlasLoader);
+    		assetManager.setLoader(Music.class, new AsyncMusicLoader());
+    	} else {
+    		this.atlasLoader = null;
+    	}
+    	this.screenAssets = new ScreenAssets(assetManager, atlasLoader);
+    	this.musicManager = new MusicManager(assetManager, loadQueue);
+    	this.saveService = new SaveService(gameEnvironment);
+    	this.journal = new ProgressJournal(saveService);
+    	this.levelCache = new LevelCache<L>(assetManager);
+    	this.prefetcher = new LevelPrefetcher<L>(loadQueue, levelCache);
+    	this.groupPacks = new ObjectMap<String, GroupPack>();
     }
     
     /**
@@ -49,6 +119,24 @@ public class GameManager<L extends LevelData, G extends GroupData<L>> implements
 		return assetManager;
 	}
 
+	/**
+	 * Returns the prioritized load queue used for assets requested after boot
+	 * (levels, prefetches, etc).
+	 * @return the LoadQueue
+	 */
+	public final LoadQueue getLoadQueue() {
+		return loadQueue;
+	}
+
+	/**
+	 * Returns the streamer that updates the AssetManager within a time budget
+	 * of each frame.
+	 * @return the AssetStreamer
+	 */
+	public final AssetStreamer getAssetStreamer() {
+		return assetStreamer;
+	}
+
 	public final InputMultiplexer getInputMultiplexer() {
 		return inputMultiplexer;
 	}
@@ -88,6 +176,169 @@ public class GameManager<L extends LevelData, G extends GroupData<L>> implements
 		return mapRenderer;
 	}
 
+	/**
+	 * Returns the shared drawables for the TextureAtlas filename provided. The
+	 * drawables are created once each time the atlas is loaded by our
+	 * AssetManager and shared by every screen using the atlas.
+	 * @param atlasFilename of a TextureAtlas already loaded by our AssetManager
+	 * @return the AtlasDrawables for the atlas
+	 */
+	public final AtlasDrawables getDrawables(String atlasFilename) {
+		TextureAtlas atlas = assetManager.get(atlasFilename, TextureAtlas.class);
+		AtlasDrawables result = atlasDrawables.get(atlasFilename);
+		if(result == null || result.getAtlas() != atlas) {
+			result = new AtlasDrawables(atlas);
+			atlasDrawables.put(atlasFilename, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the service that writes data files behind the render thread.
+	 * @return the SaveService
+	 */
+	public final SaveService getSaveService() {
+		return saveService;
+	}
+
+	/**
+	 * Returns the journal recording level progress between full saves.
+	 * @return the ProgressJournal (replayed once the game data is loaded)
+	 */
+	public final ProgressJournal getJournal() {
+		return journal;
+	}
+
+	/**
+	 * Returns the manager playing the music track of each screen.
+	 * @return the MusicManager
+	 */
+	public final MusicManager getMusicManager() {
+		return musicManager;
+	}
+
+	/**
+	 * Returns the cache bounding the memory used by the loaded levels.
+	 * @return the LevelCache (touched by each level screen shown)
+	 */
+	public final LevelCache<L> getLevelCache() {
+		return levelCache;
+	}
+
+	/**
+	 * Returns the prefetcher loading the levels likely to be played next.
+	 * @return the LevelPrefetcher
+	 */
+	public final LevelPrefetcher<L> getPrefetcher() {
+		return prefetcher;
+	}
+
+	/**
+	 * Returns the manifest listing every group (id, name, number of levels
+	 * and content hash) loaded by initData().
+	 * @return the GroupCatalog (empty if none is available)
+	 */
+	public final GroupCatalog getCatalog() {
+		return catalog;
+	}
+
+	/**
+	 * Returns true if the catalog was restored from the warm-start snapshot
+	 * by initData() instead of parsing the JSON catalog.
+	 * @return true if the snapshot was restored
+	 */
+	public final boolean isCatalogRestored() {
+		return catalogRestored;
+	}
+
+	/**
+	 * Returns the pack holding the levels of the group of the level filename
+	 * provided, opening it (reading its index) the first time it is needed.
+	 * May be called from the AssetManager loader thread.
+	 * @param levelFilename of any level in the group
+	 * @return the GroupPack or null if the group has no pack file
+	 */
+	public final synchronized GroupPack getGroupPack(String levelFilename) {
+		String packFilename = GroupPack.getFilename(levelFilename);
+		GroupPack result = groupPacks.get(packFilename);
+		if(result == null && !groupPacks.containsKey(packFilename)) {
+			FileHandle file = Gdx.files.internal(packFilename);
+			if(file.exists()) {
+				result = GroupPack.open(file, gameEnvironment.getPackReader());
+			}
+			groupPacks.put(packFilename, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the shared drawables of every TextureAtlas no longer loaded so
+	 * the unloaded atlas can be garbage collected.
+	 */
+	private void pruneDrawables() {
+		Array<String> unloaded = new Array<String>();
+		for(String atlasFilename : atlasDrawables.keys()) {
+			if(!assetManager.isLoaded(atlasFilename, TextureAtlas.class)) {
+				unloaded.add(atlasFilename);
+			}
+		}
+		for(String atlasFilename : unloaded) {
+			atlasDrawables.remove(atlasFilename);
+		}
+	}
+
+	/**
+	 * Returns the timer that measures time-to-first-frame and
+	 * time-to-interactive of the current run.
+	 * @return the BootTimer started by initData()
+	 */
+	public final BootTimer getBootTimer() {
+		return bootTimer;
+	}
+
+	/**
+	 * Returns the fonts and styles shared by every screen. Screens should use
+	 * AbstractScreen.getStyles() which acquires and releases them.
+	 * @return the StyleCache
+	 */
+	public final StyleCache getStyles() {
+		return styleCache;
+	}
+
+	/**
+	 * Returns the animation clock shared by every animated drawable and actor.
+	 * @return the AnimationClock advanced once per frame by render()
+	 */
+	public final AnimationClock getAnimationClock() {
+		return animationClock;
+	}
+
+	/**
+	 * Returns the profiler that times each frame rendered by render().
+	 * @return the FrameProfiler
+	 */
+	public final FrameProfiler getProfiler() {
+		return profiler;
+	}
+
+	/**
+	 * Enables on-demand rendering where frames are only rendered on input,
+	 * while the current screen is animating or at the minimum frame rate the
+	 * current screen declares (see AbstractScreen).
+	 * @param enabled is true for on-demand rendering, false for continuous
+	 */
+	public final void setOnDemandRendering(boolean enabled) {
+		renderScheduler.setEnabled(enabled);
+	}
+
+	/**
+	 * Requests that a new frame be rendered. Only needed when on-demand
+	 * rendering is enabled and something changed without any user input.
+	 */
+	public final void requestRendering() {
+		renderScheduler.requestFrame();
+	}
+
 	/**
      * Returns the GameEnvironment class provided at construction time.
      * @return GameEnvironment class used to determine the runtime environment
@@ -109,13 +360,133 @@ public class GameManager<L extends LevelData, G extends GroupData<L>> implements
     	} else {
     		// Retrieve our AbstractScreen base class for the screenId provided
     		AbstractScreen<L,G> anScreen = data.getScreen(screenId);
-    		game.setScreen(anScreen);
 
-    		// Log the change of screens event
-        	Gdx.app.debug( "GameManager:setScreen()", "Changing to " + anScreen.getName() + "(" + screenId + ")");
+    		// Reference the assets of the new screen before it is shown and
+    		// start opening its music track in the background
+    		screenAssets.acquire(anScreen);
+    		musicManager.prepare(anScreen.getMusicFilename());
+
+    		// Assets still missing? then load them with the loading screen first
+    		if(!(anScreen instanceof LoadingScreen) && !screenAssets.isLoaded(anScreen)) {
+    			showLoadingScreen(GameData.ASSET_LOADING_SCREEN, screenId);
+    		} else {
+    			setScreen(anScreen);
+
+    			// Log the change of screens event
+    			Gdx.app.debug( "GameManager:setScreen()", "Changing to " + anScreen.getName() + "(" + screenId + ")");
+    		}
+    	}
+    }
+
+    /**
+     * Changes the current screen being displayed to the screen provided (used
+     * for the initial screen). The assets of the screen must already be
+     * loaded unless it is a LoadingScreen. The assets of the previous screen
+     * are released after it is hidden.
+     * @param anScreen to change to
+     */
+    public final void setScreen(AbstractScreen<L,G> anScreen) {
+    	Screen previous = game.getScreen();
+
+    	// Reference the assets of the new screen (nothing if already referenced)
+    	screenAssets.acquire(anScreen);
+    	if(anScreen == pendingScreen) {
+    		pendingScreen = null;
+    	}
+    	game.setScreen(anScreen);
+
+    	// Release the assets of the previous screen unless a loading screen
+    	// is about to switch back to it
+    	if(previous != anScreen && previous != pendingScreen) {
+    		screenAssets.release(previous);
+    		pruneDrawables();
     	}
+
+    	// Make sure the new screen gets drawn
+    	renderScheduler.requestFrame();
     }
     
+    /**
+     * Renders one frame: advances the shared animation clock and then renders
+     * the current screen while the frame profiler times it. Called by the
+     * Game class instead of Game.render().
+     */
+    public final void render() {
+    	profiler.beginFrame();
+
+    	// Advance the shared animation clock once for this frame
+    	float delta = Gdx.graphics.getDeltaTime();
+    	animationClock.update(delta);
+
+    	// Hand queued loads to the AssetManager and notify completed ones
+    	boolean streaming = !loadQueue.update();
+
+    	// Start the music track waiting to be opened (if any)
+    	musicManager.update();
+
+    	// Keep loading in the background while a normal screen is shown (the
+    	// loading screens update the AssetManager themselves)
+    	Screen screen = game.getScreen();
+    	if(!(screen instanceof LoadingScreen) && (streaming || assetStreamer.isLoading())) {
+    		streaming = !assetStreamer.update(AssetStreamer.BACKGROUND_SHARE);
+    	}
+    	assetStreamer.frameRendered(delta);
+
+    	// Keep frames coming while anything is left to load or to complete
+    	// (queued requests, their callbacks and a track waiting to play only
+    	// progress on the next frame)
+    	streaming = streaming || !loadQueue.isIdle() || assetStreamer.isLoading() || musicManager.isWaiting();
+
+    	// Replay the progress journal once our game data has been loaded and
+    	// snapshot the catalog for the next startup if it wasn't restored
+    	if(!progressReplayed && data != null && assetManager.isLoaded(data.getFilename())) {
+    		journal.apply(data);
+    		if(!catalogRestored) {
+    			snapshot.save(saveService, catalog);
+    		}
+    		progressReplayed = true;
+    	}
+
+    	// Render the current screen
+    	if(screen != null) {
+    		screen.render(delta);
+    	}
+
+    	// Finish timing this frame and draw the profiler overlay on top
+    	profiler.endFrame();
+    	profiler.drawOverlay(getSpriteBatch());
+    	bootTimer.frameRendered(screen);
+
+    	// Schedule the next frame if the screen still needs one
+    	if(screen instanceof AbstractScreen) {
+    		AbstractScreen<?,?> anScreen = (AbstractScreen<?,?>)screen;
+    		renderScheduler.frameRendered(anScreen.isAnimating() || streaming, anScreen.getMinimumFrameRate());
+    	} else {
+    		renderScheduler.frameRendered(screen != null || streaming, 0.0f);
+    	}
+    }
+
+    /**
+     * Changes to the loading screen specified and has it switch to the
+     * nextScreenId provided once every queued asset and LoadQueue request has
+     * finished loading.
+     * @param loadingScreenId of a LoadingScreen derived screen
+     * @param nextScreenId to switch to when loading is complete
+     */
+    public final void showLoadingScreen(int loadingScreenId, int nextScreenId) {
+    	// Reference the assets of the next screen so they load with the loading screen
+    	pendingScreen = data.getScreen(nextScreenId);
+    	screenAssets.acquire(pendingScreen);
+
+    	AbstractScreen<L,G> anScreen = data.getScreen(loadingScreenId);
+    	if(anScreen instanceof LoadingScreen) {
+    		((LoadingScreen<L,G>)anScreen).setNextScreen(nextScreenId);
+    	} else {
+    		Gdx.app.error("GameManager:showLoadingScreen()", anScreen.getName() + " is not a LoadingScreen");
+    	}
+    	setScreen(loadingScreenId);
+    }
+
     /**
      * Sets the screenId to use when the Back button is pressed.
      * @param screenId to use on Back button
@@ -158,6 +529,9 @@ public class GameManager<L extends LevelData, G extends GroupData<L>> implements
      */
 	@SuppressWarnings("rawtypes")
 	public final void initData(GameData<L,G> data) {
+    	// Start measuring our boot times (initData is called first by create)
+    	bootTimer.start();
+
     	if( this.data != null ) {
     		Gdx.app.error("GameManager:init", "GameData object already exists, replacing.");
     	}
@@ -171,11 +545,24 @@ public class GameManager<L extends LevelData, G extends GroupData<L>> implements
 		assetManager.setLoader(GameData.class, new JsonDataLoader<GameData>());
 
 		// Add the data to our assetMaanger to load next
-    	assetManager.load(data.getFilename(), GameData.class,
-    			new JsonDataLoader.Parameters<GameData>(data));
+	    assetManager.load(data.getFilename(), GameData.class,
+	    		new JsonDataLoader.Parameters<GameData>(data));
+
+    	// Load the shared font texture along with the game data
+    	styleCache.queueAssets();
 
-        // Make our inputMultiplexer the primary input listener
-	    Gdx.input.setInputProcessor(this.inputMultiplexer);
+    	// Restore the group manifest from the warm-start snapshot if the
+    	// catalog hasn't changed since it was written, otherwise read it (small
+    	// enough to read right away)
+    	catalogRestored = snapshot.restore();
+    	catalog = catalogRestored ? snapshot.getCatalog() : GroupCatalog.load();
+
+    	// Read the progress journal, it is replayed once the game data is loaded
+    	journal.load();
+    	progressReplayed = false;
+
+        // Make our inputMultiplexer the primary input listener (timed by our profiler)
+	    Gdx.input.setInputProcessor(profiler.wrap(this.inputMultiplexer));
 
 	    // Do we need a back button handler?
     	if(Platform.Android == gameEnvironment.getPlatform() ||
@@ -191,16 +578,41 @@ public class GameManager<L extends LevelData, G extends GroupData<L>> implements
  
     /**
      * This method is responsible for saving the game data previously created
-     * or restored above.
-     * @param filename and path to where the data will be saved.
+     * or restored above, merging the progress journal into the saved files.
+     * The data is written in the background (see SaveService), call
+     * flushData() to wait for it.
      */
     public final void saveData() {
-    	JsonDataLoader.save(data);
+    	journal.compact(data);
+
+    	// Keep the snapshot in step with catalog updates made since startup
+    	snapshot.save(saveService, catalog);
+    }
+
+    /**
+     * Waits until every save made so far has been written.
+     */
+    public final void flushData() {
+    	saveService.flush();
     }
 
 	@Override
 	public void dispose() {
+	    // Finish writing any pending saves before anything else goes away
+	    saveService.dispose();
+	    renderScheduler.dispose();
+	    prefetcher.cancelAll();
+	    loadQueue.cancelAll();
+	    profiler.dispose();
+	    styleCache.dispose();
+	    atlasDrawables.clear();
+	    screenAssets.clear();
+	    musicManager.dispose();
+	    levelCache.clear();
 	    assetManager.dispose();
+	    if(atlasLoader != null) {
+	    	atlasLoader.dispose();
+	    }
 	    if(spriteBatch != null) {
 	    	spriteBatch.dispose();
 	    }
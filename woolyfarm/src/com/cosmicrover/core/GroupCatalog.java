@@ -0,0 +1,213 @@
+package com.cosmicrover.core;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import com.cosmicrover.core.assets.GroupData;
+
+/**
+ * GroupCatalog is a single manifest listing every group (id, name, number of
+ * levels and a content hash) so the groups can be shown without opening any
+ * group file. The shipped catalog is built when the levels are packaged; a
+ * copy in local storage is updated whenever a custom group is saved and takes
+ * precedence over the shipped one. Both hash the encoded levels of a group
+ * the same way (see hash(Array)) so the hashes can be compared.
+ * 
+ * Format: {"groups":[{"groupId":0,"name":"Farm","levels":20,"hash":"..."}]}
+ */
+public class GroupCatalog {
+	/// Filename of the catalog (internal when shipped, local once updated)
+	public static final String CATALOG_FILENAME = GroupManager.GROUP_DIRECTORY + "catalog.json";
+
+	/// 64 bit FNV-1a constants used for our content hashes
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	/**
+	 * Entry describes a single group of the catalog.
+	 */
+	public static class Entry {
+		public int groupId;
+		public String name;
+		public int levels;
+		public String hash;
+	}
+
+	/// Entries of the catalog sorted by groupId
+	private final Array<Entry> groups = new Array<Entry>();
+
+	/**
+	 * Loads the local catalog if one was saved, otherwise the shipped one.
+	 * @return the catalog loaded (empty if no catalog is available)
+	 */
+	public static GroupCatalog load() {
+		GroupCatalog result = new GroupCatalog();
+		FileHandle file = getFile();
+		if(file != null) {
+			result.read(new JsonReader().parse(file));
+		}
+		return result;
+	}
+
+	/**
+	 * @return the local catalog if one was saved, otherwise the shipped one
+	 * (null if no catalog is available)
+	 */
+	public static FileHandle getFile() {
+		FileHandle result = null;
+		if(Gdx.files.isLocalStorageAvailable() && Gdx.files.local(CATALOG_FILENAME).exists()) {
+			result = Gdx.files.local(CATALOG_FILENAME);
+		} else if(Gdx.files.internal(CATALOG_FILENAME).exists()) {
+			result = Gdx.files.internal(CATALOG_FILENAME);
+		}
+		return result;
+	}
+
+	/**
+	 * @return true if the catalog lists no groups (e.g. none was shipped)
+	 */
+	public boolean isEmpty() {
+		return groups.size == 0;
+	}
+
+	/**
+	 * @return the entries of the catalog sorted by groupId
+	 */
+	public Array<Entry> getGroups() {
+		return groups;
+	}
+
+	/**
+	 * @param groupId to look for
+	 * @return the entry for the group or null if it isn't listed
+	 */
+	public Entry getGroup(int groupId) {
+		Entry result = null;
+		for(int i=0; result == null && i<groups.size; i++) {
+			if(groups.get(i).groupId == groupId) {
+				result = groups.get(i);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds or replaces the entry of the group provided and saves the catalog
+	 * to local storage in the background.
+	 * @param groupData that was just saved
+	 * @param hash of the group (see hash(Array))
+	 * @param saveService that writes the catalog
+	 */
+	public void update(GroupData<?> groupData, String hash, SaveService saveService) {
+		put(groupData.groupId, groupData.name, groupData.levels.getSize(), hash);
+		if(Gdx.files.isLocalStorageAvailable()) {
+			saveService.writeString(CATALOG_FILENAME, toJson());
+		}
+	}
+
+	/**
+	 * Adds or replaces the entry of a group.
+	 * @param groupId of the group
+	 * @param name of the group (may be null)
+	 * @param levels number of levels in the group
+	 * @param hash of the content of the group
+	 */
+	public void put(int groupId, String name, int levels, String hash) {
+		Entry entry = getGroup(groupId);
+		if(entry == null) {
+			// Insert a new entry keeping our entries sorted by groupId
+			entry = new Entry();
+			entry.groupId = groupId;
+			int index = 0;
+			while(index < groups.size && groups.get(index).groupId < groupId) {
+				index++;
+			}
+			groups.insert(index, entry);
+		}
+		entry.name = name;
+		entry.levels = levels;
+		entry.hash = hash;
+	}
+
+	/**
+	 * Writes the catalog to the file provided.
+	 * @param file to write
+	 */
+	public void save(FileHandle file) {
+		file.writeString(toJson(), false);
+	}
+
+	/**
+	 * @return the catalog in its JSON format
+	 */
+	public String toJson() {
+		StringWriter buffer = new StringWriter();
+		JsonWriter writer = new JsonWriter(buffer);
+		writer.setOutputType(OutputType.json);
+		try {
+			writer.object().array("groups");
+			for(Entry entry : groups) {
+				writer.object()
+					.set("groupId", entry.groupId)
+					.set("name", entry.name)
+					.set("levels", entry.levels)
+					.set("hash", entry.hash)
+					.pop();
+			}
+			writer.pop().pop();
+			writer.close();
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Unable to write the catalog", e);
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Returns the 64 bit FNV-1a hash of the bytes provided as a hex string.
+	 * @param bytes to hash
+	 * @return the content hash
+	 */
+	public static String hash(byte[] bytes) {
+		return Long.toHexString(hash(FNV_OFFSET, bytes));
+	}
+
+	/**
+	 * Returns the content hash of a group: the 64 bit FNV-1a hash of the
+	 * bytes of each of its encoded levels in levelId order, as a hex string.
+	 * Every catalog writer must hash a group this way.
+	 * @param levels encoded levels of the group in levelId order
+	 * @return the content hash of the group
+	 */
+	public static String hash(Array<byte[]> levels) {
+		long hash = FNV_OFFSET;
+		for(byte[] level : levels) {
+			hash = hash(hash, level);
+		}
+		return Long.toHexString(hash);
+	}
+
+	private static long hash(long hash, byte[] bytes) {
+		for(byte value : bytes) {
+			hash = (hash ^ (value & 0xFF)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	private void read(JsonValue root) {
+		JsonValue list = root.get("groups");
+		if(list != null) {
+			for(JsonValue group = list.child; group != null; group = group.next) {
+				put(group.getInt("groupId"), group.getString("name", null),
+					group.getInt("levels", 0), group.getString("hash", ""));
+			}
+		}
+	}
+}
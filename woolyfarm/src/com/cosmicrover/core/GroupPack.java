@@ -0,0 +1,169 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * GroupPack is a single file holding every level of a group, so a level can
+ * be read with one seek instead of opening one file per level. The header
+ * index is read once when the pack is opened; the level data itself is read
+ * on demand through a PackReader.
+ * 
+ * Layout (big endian):
+ *   int   MAGIC
+ *   byte  VERSION
+ *   int   number of levels
+ *   index levelId, offset, length (ints) for each level sorted by levelId
+ *   data  level bytes at the offsets provided (from the start of the file)
+ */
+public class GroupPack {
+	/// Filename of the pack file found in each group directory
+	public static final String PACK_FILENAME = "levels.gpk";
+
+	/// Identifies a group pack file ("WFGP")
+	private static final int MAGIC = 0x57464750;
+
+	/// Version of the layout written by write
+	private static final byte VERSION = 1;
+
+	/// Size in bytes of the fixed header and of each index entry
+	private static final int HEADER_SIZE = 9;
+	private static final int ENTRY_SIZE = 12;
+
+	private final FileHandle file;
+	private final PackReader reader;
+
+	/// Index of the pack sorted by levelId
+	private final int[] levelIds;
+	private final int[] offsets;
+	private final int[] lengths;
+
+	private GroupPack(FileHandle file, PackReader reader, int count) {
+		this.file = file;
+		this.reader = reader;
+		this.levelIds = new int[count];
+		this.offsets = new int[count];
+		this.lengths = new int[count];
+	}
+
+	/**
+	 * Returns the pack filename for the group directory of the level filename
+	 * provided (see LevelManager.getFilename).
+	 * @param levelFilename of any level in the group
+	 * @return the pack filename of the group
+	 */
+	public static String getFilename(String levelFilename) {
+		return levelFilename.substring(0, levelFilename.lastIndexOf('/') + 1) + PACK_FILENAME;
+	}
+
+	/**
+	 * Opens the pack file provided by reading its header index.
+	 * @param file of the pack
+	 * @param reader used to read the header and the levels
+	 * @return the opened GroupPack
+	 */
+	public static GroupPack open(FileHandle file, PackReader reader) {
+		// Read and check our fixed header
+		byte[] header = reader.read(file, 0, HEADER_SIZE);
+		if(getInt(header, 0) != MAGIC || header[4] != VERSION) {
+			throw new GdxRuntimeException("Not a supported group pack: " + file.path());
+		}
+		int count = getInt(header, 5);
+
+		// Read our index in one go
+		GroupPack result = new GroupPack(file, reader, count);
+		byte[] index = reader.read(file, HEADER_SIZE, count * ENTRY_SIZE);
+		for(int i=0; i<count; i++) {
+			result.levelIds[i] = getInt(index, i * ENTRY_SIZE);
+			result.offsets[i] = getInt(index, i * ENTRY_SIZE + 4);
+			result.lengths[i] = getInt(index, i * ENTRY_SIZE + 8);
+		}
+		return result;
+	}
+
+	/**
+	 * @param levelId to look for
+	 * @return true if the pack holds the level provided
+	 */
+	public boolean contains(int levelId) {
+		return find(levelId) >= 0;
+	}
+
+	/**
+	 * Reads the bytes of the level provided with a single read of the pack.
+	 * @param levelId to read
+	 * @return bytes of the level
+	 */
+	public byte[] read(int levelId) {
+		int entry = find(levelId);
+		if(entry < 0) {
+			throw new GdxRuntimeException("Level " + levelId + " not found in " + file.path());
+		}
+		return reader.read(file, offsets[entry], lengths[entry]);
+	}
+
+	/**
+	 * Writes a pack file holding the levels provided.
+	 * @param file to write
+	 * @param levels bytes of each level indexed by levelId
+	 */
+	public static void write(FileHandle file, IntMap<byte[]> levels) {
+		// Sort our levelIds so find can use a binary search
+		Array<Integer> levelIds = new Array<Integer>(levels.size);
+		for(IntMap.Entry<byte[]> level : levels.entries()) {
+			levelIds.add(level.key);
+		}
+		levelIds.sort();
+
+		// Write our header and index followed by the data of each level
+		int dataOffset = HEADER_SIZE + levelIds.size * ENTRY_SIZE;
+		int dataSize = 0;
+		for(byte[] bytes : levels.values()) {
+			dataSize += bytes.length;
+		}
+		byte[] pack = new byte[dataOffset + dataSize];
+		putInt(pack, 0, MAGIC);
+		pack[4] = VERSION;
+		putInt(pack, 5, levelIds.size);
+		for(int i=0; i<levelIds.size; i++) {
+			byte[] bytes = levels.get(levelIds.get(i));
+			putInt(pack, HEADER_SIZE + i * ENTRY_SIZE, levelIds.get(i));
+			putInt(pack, HEADER_SIZE + i * ENTRY_SIZE + 4, dataOffset);
+			putInt(pack, HEADER_SIZE + i * ENTRY_SIZE + 8, bytes.length);
+			System.arraycopy(bytes, 0, pack, dataOffset, bytes.length);
+			dataOffset += bytes.length;
+		}
+		file.writeBytes(pack, false);
+	}
+
+	private int find(int levelId) {
+		int low = 0;
+		int high = levelIds.length - 1;
+		int result = -1;
+		while(result < 0 && low <= high) {
+			int middle = (low + high) >>> 1;
+			if(levelIds[middle] < levelId) {
+				low = middle + 1;
+			} else if(levelIds[middle] > levelId) {
+				high = middle - 1;
+			} else {
+				result = middle;
+			}
+		}
+		return result;
+	}
+
+	private static int getInt(byte[] bytes, int offset) {
+		return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16) |
+			   ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+	}
+
+	private static void putInt(byte[] bytes, int offset, int value) {
+		bytes[offset] = (byte)(value >>> 24);
+		bytes[offset + 1] = (byte)(value >>> 16);
+		bytes[offset + 2] = (byte)(value >>> 8);
+		bytes[offset + 3] = (byte)value;
+	}
+}
@@ -0,0 +1,188 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Array;
+import com.cosmicrover.core.assets.LevelData;
+
+/**
+ * LevelCache bounds the memory used by the bodies (map data) of the levels
+ * loaded by the AssetManager. Each level shown is touched; once the estimated
+ * size of every cached body exceeds the budget, the least recently used
+ * levels are evicted: their body is released, their loaded flag cleared and
+ * their asset unloaded. The level metadata (id, name, locked, completed)
+ * stays registered with its LevelManager, so an evicted level is simply
+ * loaded again the next time it is shown.
+ * @param <L> type of LevelData cached
+ */
+public class LevelCache<L extends LevelData> {
+	/**
+	 * LevelBody estimates and releases the body of a level, which only the
+	 * game knows the layout of.
+	 */
+	public interface LevelBody<L extends LevelData> {
+		/**
+		 * @param levelData loaded
+		 * @return estimated size in bytes of the body of the level
+		 */
+		public int getSize(L levelData);
+
+		/**
+		 * Drops every reference to the body of the level (its loaded flag is
+		 * cleared by the LevelCache).
+		 * @param levelData to release
+		 */
+		public void release(L levelData);
+	}
+
+	/// Default memory budget (in bytes) for the bodies of the cached levels
+	public static final int DEFAULT_BUDGET = 256 * 1024;
+
+	private final AssetManager assetManager;
+
+	/// Estimates and releases the level bodies (nothing is cached without it)
+	private LevelBody<L> levelBody = null;
+
+	/// Cached levels, least recently used first
+	private final Array<Entry<L>> entries;
+
+	/// Memory budget and estimated size (in bytes) of the cached bodies
+	private int budget = DEFAULT_BUDGET;
+	private int size = 0;
+
+	public LevelCache(AssetManager assetManager) {
+		this.assetManager = assetManager;
+		this.entries = new Array<Entry<L>>();
+	}
+
+	public void setLevelBody(LevelBody<L> levelBody) {
+		this.levelBody = levelBody;
+	}
+
+	public int getBudget() {
+		return budget;
+	}
+
+	/**
+	 * Changes the memory budget, evicting levels right away if needed.
+	 * @param budget in bytes for the bodies of the cached levels
+	 */
+	public void setBudget(int budget) {
+		this.budget = budget;
+		evict();
+	}
+
+	/**
+	 * @return estimated size in bytes of the cached level bodies
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Marks the level provided as the most recently used one, adding it to
+	 * the cache if the AssetManager loaded it from the filename provided, and
+	 * evicts the least recently used levels exceeding the budget. Levels not
+	 * loaded by the AssetManager (e.g. new levels in the editor) are never
+	 * evicted.
+	 * @param levelData being used
+	 * @param fileName the level was loaded from
+	 */
+	public void touch(L levelData, String fileName) {
+		// Move the level to the end of our list (most recently used)
+		Entry<L> entry = remove(levelData);
+		if(entry == null) {
+			entry = createEntry(levelData, fileName);
+		}
+		if(entry != null) {
+			entries.add(entry);
+			size += entry.size;
+			evict();
+		}
+	}
+
+	/**
+	 * Adds the level provided (e.g. a prefetched level) as the least recently
+	 * used level unless it is already cached, so it is the first level
+	 * evicted if it isn't touched before the budget is exceeded.
+	 * @param levelData loaded
+	 * @param fileName the level was loaded from
+	 */
+	public void add(L levelData, String fileName) {
+		Entry<L> entry = null;
+		for(int i=0; i<entries.size && entry == null; i++) {
+			if(entries.get(i).levelData == levelData) {
+				entry = entries.get(i);
+			}
+		}
+		if(entry == null) {
+			entry = createEntry(levelData, fileName);
+			if(entry != null) {
+				entries.insert(0, entry);
+				size += entry.size;
+				evict();
+			}
+		}
+	}
+
+	/**
+	 * Forgets every cached level without evicting it.
+	 */
+	public void clear() {
+		entries.clear();
+		size = 0;
+	}
+
+	private Entry<L> createEntry(L levelData, String fileName) {
+		Entry<L> result = null;
+		if(levelBody != null && levelData.loaded && assetManager.isLoaded(fileName)) {
+			result = new Entry<L>(levelData, fileName, levelBody.getSize(levelData));
+		}
+		return result;
+	}
+
+	private Entry<L> remove(L levelData) {
+		Entry<L> result = null;
+		for(int i=0; i<entries.size && result == null; i++) {
+			if(entries.get(i).levelData == levelData) {
+				result = entries.removeIndex(i);
+				size -= result.size;
+			}
+		}
+		return result;
+	}
+
+	private void evict() {
+		// Always keep the most recently used level (the one being played)
+		while(size > budget && entries.size > 1) {
+			Entry<L> entry = entries.removeIndex(0);
+			size -= entry.size;
+
+			// Drop the body of the level and our AssetManager reference to it
+			if(entry.levelData.loaded) {
+				levelBody.release(entry.levelData);
+				entry.levelData.loaded = false;
+			}
+			if(assetManager.isLoaded(entry.fileName)) {
+				assetManager.unload(entry.fileName);
+			}
+			Gdx.app.debug("LevelCache", "Evicted " + entry.fileName + " (" + size + "/" + budget + " bytes cached)");
+		}
+	}
+
+	/**
+	 * Entry is a level cached along with the file it was loaded from and the
+	 * estimated size of its body.
+	 */
+	private static final class Entry<L extends LevelData> {
+		final L levelData;
+		final String fileName;
+		final int size;
+
+		Entry(L levelData, String fileName, int size) {
+			this.levelData = levelData;
+			this.fileName = fileName;
+			this.size = size;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.cosmicrover.core.LoadRequest.LoadCallback;
+import com.cosmicrover.core.assets.LevelData;
+
+/**
+ * LevelPrefetcher loads the levels the player is likely to play next (e.g.
+ * the next levels of the group) in the background at prefetch priority. A
+ * screen about to show one of them claims its request instead of loading the
+ * level again, which moves the request ahead of everything else. Prefetched
+ * levels are added to the LevelCache as its least recently used levels, so
+ * they are the first ones evicted if they are never played.
+ * @param <L> type of LevelData prefetched
+ */
+public class LevelPrefetcher<L extends LevelData> {
+	private final LoadQueue loadQueue;
+	private final LevelCache<L> levelCache;
+
+	/// Prefetch requests still waiting or loading by level filename
+	private final ObjectMap<String, LoadRequest<L>> requests;
+
+	/// Notified when a prefetched level has been loaded
+	private final PrefetchCallback callback;
+
+	public LevelPrefetcher(LoadQueue loadQueue, LevelCache<L> levelCache) {
+		this.loadQueue = loadQueue;
+		this.levelCache = levelCache;
+		this.requests = new ObjectMap<String, LoadRequest<L>>();
+		this.callback = new PrefetchCallback();
+	}
+
+	/**
+	 * Queues the level provided to load in the background unless it is
+	 * already loaded or being prefetched.
+	 * @param levelData to prefetch
+	 * @param fileName to load the level from
+	 * @param type of the level asset
+	 * @param parameters for the level loader
+	 */
+	public void prefetch(L levelData, String fileName, Class<L> type, AssetLoaderParameters<L> parameters) {
+		if(!levelData.loaded && !requests.containsKey(fileName)) {
+			requests.put(fileName, loadQueue.load(fileName, type, parameters, LoadQueue.PRIORITY_PREFETCH, callback));
+			Gdx.app.debug("LevelPrefetcher", "Prefetching " + fileName);
+		}
+	}
+
+	/**
+	 * Takes over the prefetch request of the level filename provided (the
+	 * player is now waiting on it), raising it to interactive priority. The
+	 * caller becomes responsible for cancelling the request.
+	 * @param fileName of the level
+	 * @return the request or null if the level isn't being prefetched
+	 */
+	public LoadRequest<L> claim(String fileName) {
+		LoadRequest<L> result = requests.remove(fileName);
+		if(result != null) {
+			result.setPriority(LoadQueue.PRIORITY_INTERACTIVE);
+		}
+		return result;
+	}
+
+	/**
+	 * @return number of prefetches still waiting or loading
+	 */
+	public int getSize() {
+		return requests.size;
+	}
+
+	/**
+	 * Cancels every prefetch still waiting or loading (e.g. the player left
+	 * the group). Waiting requests are simply dropped from the LoadQueue.
+	 */
+	public void cancelAll() {
+		for(LoadRequest<L> request : requests.values()) {
+			request.cancel();
+		}
+		requests.clear();
+	}
+
+	/**
+	 * PrefetchCallback hands each prefetched level over to the LevelCache.
+	 */
+	private final class PrefetchCallback implements LoadCallback<L> {
+		@Override
+		public void loaded(LoadRequest<L> request, L asset) {
+			requests.remove(request.getFileName());
+			levelCache.add(asset, request.getFileName());
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Array;
+import com.cosmicrover.core.LoadRequest.LoadCallback;
+
+/**
+ * LoadQueue orders asset loads by priority in front of the AssetManager. The
+ * AssetManager loads everything it is given in order, so only a small number
+ * of requests are handed to it at a time; a new interactive request therefore
+ * jumps ahead of any background prefetches still waiting in this queue.
+ * update() is called once per frame by the GameManager to hand over the next
+ * requests and to notify the callbacks of completed requests.
+ */
+public class LoadQueue {
+	/// Loads the player is waiting on (e.g. the level about to be played)
+	public static final int PRIORITY_INTERACTIVE = 0;
+
+	/// Loads needed soon but not blocking the player
+	public static final int PRIORITY_NORMAL = 50;
+
+	/// Speculative loads (e.g. the next levels of a group)
+	public static final int PRIORITY_PREFETCH = 100;
+
+	/// Maximum number of requests handed to the AssetManager at once
+	private static final int MAX_SUBMITTED = 1;
+
+	private final AssetManager assetManager;
+
+	/// Requests waiting to be handed to the AssetManager (sorted by priority)
+	private final Array<LoadRequest<?>> pending;
+
+	/// Requests handed to the AssetManager that haven't completed yet
+	private final Array<LoadRequest<?>> submitted;
+
+	/// Sequence number given to the next request
+	private long nextSequence = 0;
+
+	public LoadQueue(AssetManager assetManager) {
+		this.assetManager = assetManager;
+		this.pending = new Array<LoadRequest<?>>();
+		this.submitted = new Array<LoadRequest<?>>();
+	}
+
+	/**
+	 * Queues an asset load.
+	 * @param fileName of the asset
+	 * @param type of the asset
+	 * @param parameters for the asset loader (may be null)
+	 * @param priority of the load (lower values are loaded first)
+	 * @param callback notified when the asset is available (may be null)
+	 * @return the request, which can be used to cancel the load
+	 */
+	public <T> LoadRequest<T> load(String fileName, Class<T> type, AssetLoaderParameters<T> parameters,
+			int priority, LoadCallback<T> callback) {
+		LoadRequest<T> request = new LoadRequest<T>(this, fileName, type, parameters,
+				priority, nextSequence++, callback);
+		insertPending(request);
+		return request;
+	}
+
+	/**
+	 * Hands the highest priority requests to the AssetManager and notifies
+	 * the callbacks of the requests that completed. The AssetManager itself
+	 * is updated by whoever is currently loading (e.g. the loading screen).
+	 * @return true if no requests are waiting or loading
+	 */
+	public boolean update() {
+		// Complete (or drop cancelled) requests the AssetManager has finished
+		for(int i=0; i<submitted.size; ) {
+			LoadRequest<?> request = submitted.get(i);
+			if(assetManager.isLoaded(request.fileName, request.type)) {
+				submitted.removeIndex(i);
+				complete(request);
+			} else {
+				i++;
+			}
+		}
+
+		// Hand over the next requests in priority order
+		while(submitted.size < MAX_SUBMITTED && pending.size > 0) {
+			LoadRequest<?> request = pending.removeIndex(0);
+			submit(request);
+		}
+
+		return isIdle();
+	}
+
+	/**
+	 * @return true if no requests are waiting or loading
+	 */
+	public boolean isIdle() {
+		return pending.size == 0 && submitted.size == 0;
+	}
+
+	/**
+	 * @return number of requests waiting or loading
+	 */
+	public int getSize() {
+		return pending.size + submitted.size;
+	}
+
+	/**
+	 * Cancels every request that is waiting or loading.
+	 */
+	public void cancelAll() {
+		while(pending.size > 0) {
+			cancel(pending.peek());
+		}
+		for(LoadRequest<?> request : submitted) {
+			request.cancelled = true;
+		}
+	}
+
+	void cancel(LoadRequest<?> request) {
+		if(!request.done && !request.cancelled) {
+			request.cancelled = true;
+			if(!request.submitted) {
+				pending.removeValue(request, true);
+			}
+			// Submitted requests are unloaded once the AssetManager finishes them
+		}
+	}
+
+	void reprioritize(LoadRequest<?> request, int priority) {
+		request.priority = priority;
+		if(!request.submitted && !request.done && !request.cancelled) {
+			pending.removeValue(request, true);
+			insertPending(request);
+		}
+	}
+
+	private void insertPending(LoadRequest<?> request) {
+		// Keep pending sorted by priority and then by queue order
+		int index = pending.size;
+		while(index > 0 && isBefore(request, pending.get(index-1))) {
+			index--;
+		}
+		pending.insert(index, request);
+	}
+
+	private static boolean isBefore(LoadRequest<?> a, LoadRequest<?> b) {
+		return a.priority < b.priority || (a.priority == b.priority && a.sequence < b.sequence);
+	}
+
+	private <T> void submit(LoadRequest<T> request) {
+		request.submitted = true;
+		assetManager.load(request.fileName, request.type, request.parameters);
+		submitted.add(request);
+	}
+
+	private <T> void complete(LoadRequest<T> request) {
+		if(request.cancelled) {
+			// Nobody wants this asset anymore, release our reference to it
+			Gdx.app.debug("LoadQueue", "Unloading cancelled request " + request.fileName);
+			assetManager.unload(request.fileName);
+		} else {
+			request.done = true;
+			if(request.callback != null) {
+				request.callback.loaded(request, assetManager.get(request.fileName, request.type));
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+
+/**
+ * LoadRequest is a single asset load queued with the LoadQueue. It carries
+ * the priority of the load, an optional callback notified when the asset is
+ * available and acts as the cancel token for the load.
+ * @param <T> type of asset being loaded
+ */
+public class LoadRequest<T> {
+	/**
+	 * Callback notified on the render thread when a request completes.
+	 */
+	public interface LoadCallback<T> {
+		public void loaded(LoadRequest<T> request, T asset);
+	}
+
+	/// Asset to load and how to load it
+	final String fileName;
+	final Class<T> type;
+	final AssetLoaderParameters<T> parameters;
+	final LoadCallback<T> callback;
+
+	/// Lower values are loaded first (see LoadQueue.PRIORITY_*)
+	int priority;
+
+	/// Order the request was queued in (used to keep equal priorities in order)
+	final long sequence;
+
+	/// Has the request been handed to the AssetManager?
+	boolean submitted = false;
+
+	/// Request state
+	boolean done = false;
+	boolean cancelled = false;
+
+	/// The queue this request belongs to
+	private final LoadQueue queue;
+
+	LoadRequest(LoadQueue queue, String fileName, Class<T> type, AssetLoaderParameters<T> parameters,
+			int priority, long sequence, LoadCallback<T> callback) {
+		this.queue = queue;
+		this.fileName = fileName;
+		this.type = type;
+		this.parameters = parameters;
+		this.priority = priority;
+		this.sequence = sequence;
+		this.callback = callback;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public Class<T> getType() {
+		return type;
+	}
+
+	public int getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Changes the priority of this request if it hasn't been handed to the
+	 * AssetManager yet (e.g. a prefetch the player now needs right away).
+	 * @param priority to use (lower values are loaded first)
+	 */
+	public void setPriority(int priority) {
+		queue.reprioritize(this, priority);
+	}
+
+	/**
+	 * @return true once the asset is loaded and the callback has been notified
+	 */
+	public boolean isDone() {
+		return done;
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Cancels this request. A request still waiting in the queue is simply
+	 * removed; a request already handed to the AssetManager is unloaded as
+	 * soon as it finishes. The callback is never notified after cancel().
+	 * Cancelling a request that is already done does nothing.
+	 */
+	public void cancel() {
+		queue.cancel(this);
+	}
+}
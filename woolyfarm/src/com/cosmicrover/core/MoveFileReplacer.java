@@ -0,0 +1,14 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * MoveFileReplacer replaces a file with FileHandle.moveTo, which copies the
+ * temporary file then deletes it and works for every FileHandle type.
+ */
+public class MoveFileReplacer implements FileReplacer {
+	@Override
+	public void replace(FileHandle temp, FileHandle file) {
+		temp.moveTo(file);
+	}
+}
@@ -0,0 +1,153 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * MusicManager plays the music track of each screen. Tracks are opened in
+ * the background through the LoadQueue (prepare() can be called ahead of
+ * time for the screen likely to be shown next) and the most recently used
+ * tracks stay open, so switching back and forth between screens neither
+ * reopens a stream nor stalls the render thread. A track that isn't open yet
+ * when play() is called starts as soon as it is (see update()).
+ */
+public class MusicManager {
+	/// Number of recently used tracks kept open
+	private static final int OPEN_TRACKS = 2;
+
+	private final AssetManager assetManager;
+	private final LoadQueue loadQueue;
+
+	/// Tracks opened or being opened, least recently used first
+	private final Array<String> tracks;
+
+	/// Load request of each track being opened (removed once opened)
+	private final ObjectMap<String, LoadRequest<Music>> requests;
+
+	/// Track playing (or waiting to be opened to play) and its volume
+	private String current = null;
+	private Music playing = null;
+	private float volume = 1.0f;
+
+	public MusicManager(AssetManager assetManager, LoadQueue loadQueue) {
+		this.assetManager = assetManager;
+		this.loadQueue = loadQueue;
+		this.tracks = new Array<String>();
+		this.requests = new ObjectMap<String, LoadRequest<Music>>();
+	}
+
+	/**
+	 * Starts opening the track provided in the background (e.g. the track of
+	 * the screen likely to be shown next).
+	 * @param fileName of the track (nothing is done if null)
+	 */
+	public void prepare(String fileName) {
+		if(fileName != null) {
+			open(fileName, LoadQueue.PRIORITY_NORMAL);
+		}
+	}
+
+	/**
+	 * Plays the track provided looping at the volume provided, stopping the
+	 * track previously played. The track starts right away if it is already
+	 * open, otherwise as soon as it has been opened.
+	 * @param fileName of the track (stops the music if null)
+	 * @param volume between 0 and 1
+	 */
+	public void play(String fileName, float volume) {
+		if(fileName == null) {
+			stop();
+		} else if(!fileName.equals(current) || playing == null || !playing.isPlaying()) {
+			stop();
+			current = fileName;
+			this.volume = volume;
+
+			// The player is waiting on this track, open it ahead of anything else
+			open(fileName, LoadQueue.PRIORITY_INTERACTIVE);
+			update();
+		}
+	}
+
+	/**
+	 * Stops the track playing (it stays open to be played again).
+	 */
+	public void stop() {
+		if(playing != null) {
+			playing.stop();
+			playing = null;
+		}
+		current = null;
+	}
+
+	/**
+	 * Starts the track waiting to be played once it has been opened. Called
+	 * once per frame by the GameManager.
+	 */
+	public void update() {
+		if(current != null && playing == null && assetManager.isLoaded(current, Music.class)) {
+			requests.remove(current);
+			playing = assetManager.get(current, Music.class);
+			playing.setLooping(true);
+			playing.setVolume(volume);
+			playing.play();
+		}
+	}
+
+	/**
+	 * @return true if a track is waiting to be opened to play (see update)
+	 */
+	public boolean isWaiting() {
+		return current != null && playing == null;
+	}
+
+	/**
+	 * Stops the music and forgets every track (used when the AssetManager
+	 * disposing the tracks is disposed).
+	 */
+	public void dispose() {
+		stop();
+		tracks.clear();
+		requests.clear();
+	}
+
+	private void open(String fileName, int priority) {
+		// Move the track to the end of our list (most recently used)
+		if(tracks.removeValue(fileName, false)) {
+			tracks.add(fileName);
+			LoadRequest<Music> request = requests.get(fileName);
+			if(request != null && !request.isDone() && request.getPriority() > priority) {
+				request.setPriority(priority);
+			}
+		} else {
+			tracks.add(fileName);
+			if(!assetManager.isLoaded(fileName, Music.class)) {
+				requests.put(fileName, loadQueue.load(fileName, Music.class, null, priority, null));
+			}
+		}
+
+		// Close the least recently used tracks we no longer need open
+		for(int i=0; tracks.size > OPEN_TRACKS && i<tracks.size; ) {
+			String track = tracks.get(i);
+			if(track.equals(current)) {
+				i++;
+			} else {
+				tracks.removeIndex(i);
+				close(track);
+			}
+		}
+	}
+
+	private void close(String fileName) {
+		LoadRequest<Music> request = requests.remove(fileName);
+		if(request != null && !request.isDone()) {
+			// Still opening, the LoadQueue unloads it once opened
+			request.cancel();
+		} else if(assetManager.isLoaded(fileName, Music.class)) {
+			Gdx.app.debug("MusicManager", "Closing " + fileName);
+			assetManager.unload(fileName);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * PackReader reads a range of bytes from a pack file (see GroupPack). The
+ * default StreamPackReader works on every platform; a platform can provide a
+ * faster implementation (e.g. memory mapped files on the desktop) through
+ * GameEnvironment.setPackReader().
+ */
+public interface PackReader {
+	/**
+	 * Reads length bytes starting at offset of the file provided. May be
+	 * called from the AssetManager loader thread.
+	 * @param file to read from
+	 * @param offset in bytes from the start of the file
+	 * @param length in bytes to read
+	 * @return the bytes read
+	 */
+	public byte[] read(FileHandle file, int offset, int length);
+}
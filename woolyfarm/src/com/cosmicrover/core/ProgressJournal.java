@@ -0,0 +1,237 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.IntMap;
+import com.cosmicrover.core.assets.GameData;
+import com.cosmicrover.core.assets.GroupData;
+import com.cosmicrover.core.assets.LevelData;
+
+/**
+ * ProgressJournal records progress changes (level completed, level unlocked
+ * and best result) as small fixed size records appended to a local journal
+ * file, so recording progress costs the same no matter how many groups and
+ * levels exist. The journal is read at startup and replayed onto the group
+ * and level data once it is loaded. compact() merges the progress recorded
+ * since the last compaction into the save files of the groups it touched and
+ * rewrites the journal with the best results only (they aren't part of the
+ * save files) and any progress that couldn't be merged.
+ * 
+ * Record layout (big endian): short groupId, short levelId, byte flags
+ * (COMPLETED, UNLOCKED) and int best result.
+ */
+public class ProgressJournal {
+	/// Local file holding the journal
+	public static final String JOURNAL_FILENAME = "progress.journal";
+
+	/// Size in bytes of each record
+	private static final int RECORD_SIZE = 9;
+
+	/// Flags of each record
+	private static final int COMPLETED = 0x01;
+	private static final int UNLOCKED = 0x02;
+
+	/// Number of appended records that triggers a compaction
+	private static final int COMPACT_RECORDS = 64;
+
+	/**
+	 * Record is the latest progress of a single level.
+	 */
+	private static class Record {
+		int groupId;
+		int levelId;
+		int flags;
+		int best;
+
+		/// Were the flags merged into the save files (compact)?
+		boolean merged;
+	}
+
+	/// Writes our journal in the background
+	private final SaveService saveService;
+
+	/// Latest record of each level (see getKey)
+	private final IntMap<Record> records = new IntMap<Record>();
+
+	/// Number of records appended since the last compaction
+	private int appendedRecords = 0;
+
+	public ProgressJournal(SaveService saveService) {
+		this.saveService = saveService;
+	}
+
+	/**
+	 * Reads the journal from local storage (if any). Called at startup.
+	 */
+	public void load() {
+		records.clear();
+		appendedRecords = 0;
+		if(Gdx.files.isLocalStorageAvailable()) {
+			FileHandle file = Gdx.files.local(JOURNAL_FILENAME);
+			if(file.exists()) {
+				// Later records replace earlier ones (a partial record is ignored)
+				byte[] bytes = file.readBytes();
+				for(int offset=0; offset+RECORD_SIZE<=bytes.length; offset+=RECORD_SIZE) {
+					Record record = new Record();
+					record.groupId = getShort(bytes, offset);
+					record.levelId = getShort(bytes, offset + 2);
+					record.flags = bytes[offset + 4];
+					record.best = getInt(bytes, offset + 5);
+
+					// Compacted records only carry a best result (no flags)
+					record.merged = record.flags == 0;
+					records.put(getKey(record.groupId, record.levelId), record);
+					if(!record.merged) {
+						appendedRecords++;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replays the journal onto the levels of the group provided.
+	 * @param groupData to update
+	 */
+	public void apply(GroupData<?> groupData) {
+		for(String levelName : groupData.levels.getLevels()) {
+			LevelData levelData = groupData.levels.getLevel(levelName);
+			Record record = records.get(getKey(groupData.groupId, levelData.levelId));
+			if(record != null) {
+				levelData.completed |= (record.flags & COMPLETED) != 0;
+				levelData.locked &= (record.flags & UNLOCKED) == 0;
+			}
+		}
+	}
+
+	/**
+	 * Replays the journal onto every group registered with the game data.
+	 * @param data loaded
+	 */
+	public void apply(GameData<?,?> data) {
+		for(String groupName : data.groups.getGroups()) {
+			apply(data.groups.getGroup(groupName));
+		}
+	}
+
+	/**
+	 * Records the current progress of the level provided by appending a
+	 * record to the journal.
+	 * @param groupData the level belongs to
+	 * @param levelData with its completed and locked flags up to date
+	 * @param best result of the level (the highest result is kept)
+	 */
+	public void record(GroupData<?> groupData, LevelData levelData, int best) {
+		int key = getKey(groupData.groupId, levelData.levelId);
+		Record record = records.get(key);
+		if(record == null) {
+			record = new Record();
+			record.groupId = groupData.groupId;
+			record.levelId = levelData.levelId;
+			record.best = best;
+			records.put(key, record);
+		}
+		record.flags = (levelData.completed ? COMPLETED : 0) | (levelData.locked ? 0 : UNLOCKED);
+		record.best = Math.max(record.best, best);
+		record.merged = false;
+
+		// Append our record (constant cost regardless of the number of levels)
+		byte[] bytes = new byte[RECORD_SIZE];
+		putRecord(bytes, 0, record);
+		if(Gdx.files.isLocalStorageAvailable()) {
+			saveService.write(JOURNAL_FILENAME, bytes, true);
+		}
+		appendedRecords++;
+	}
+
+	/**
+	 * @param groupId of the level
+	 * @param levelId of the level
+	 * @return the best result recorded for the level (0 if none)
+	 */
+	public int getBest(int groupId, int levelId) {
+		Record record = records.get(getKey(groupId, levelId));
+		return record != null ? record.best : 0;
+	}
+
+	/**
+	 * @return true if enough records were appended to warrant a compaction
+	 */
+	public boolean needsCompaction() {
+		return appendedRecords >= COMPACT_RECORDS;
+	}
+
+	/**
+	 * Merges the journal into the main save files: saves the game data and
+	 * the groups with progress recorded since the last compaction, then
+	 * replaces the journal with the records still needed (the best results
+	 * only live in the journal). The files are written in that order in the
+	 * background by our SaveService.
+	 * @param data to save
+	 */
+	public void compact(GameData<?,?> data) {
+		// Save the main files with the progress already applied to them
+		saveService.save(data.getFilename(), data);
+		IntMap<GroupData<?>> groups = new IntMap<GroupData<?>>();
+		for(Record record : records.values()) {
+			if(!record.merged && !groups.containsKey(record.groupId)) {
+				GroupData<?> groupData = data.groups.getGroup(GroupManager.getFilename(record.groupId));
+				if(groupData != null) {
+					groups.put(record.groupId, groupData);
+					saveService.save(groupData.getFilename(), groupData);
+				}
+			}
+		}
+
+		// Drop the progress merged into the group files, keeping the best
+		// results and the progress of groups that weren't loaded
+		IntMap.Values<Record> values = records.values();
+		while(values.hasNext()) {
+			Record record = values.next();
+			if(!record.merged && groups.containsKey(record.groupId)) {
+				record.flags = 0;
+				record.merged = true;
+			}
+			if(record.merged && record.best == 0) {
+				values.remove();
+			}
+		}
+
+		// Replace the journal with the records left
+		byte[] bytes = new byte[records.size * RECORD_SIZE];
+		int offset = 0;
+		for(Record record : records.values()) {
+			putRecord(bytes, offset, record);
+			offset += RECORD_SIZE;
+		}
+		if(Gdx.files.isLocalStorageAvailable()) {
+			saveService.write(JOURNAL_FILENAME, bytes, false);
+		}
+		appendedRecords = 0;
+	}
+
+	private static int getKey(int groupId, int levelId) {
+		return (groupId << 16) | levelId;
+	}
+
+	private static void putRecord(byte[] bytes, int offset, Record record) {
+		bytes[offset] = (byte)(record.groupId >>> 8);
+		bytes[offset + 1] = (byte)record.groupId;
+		bytes[offset + 2] = (byte)(record.levelId >>> 8);
+		bytes[offset + 3] = (byte)record.levelId;
+		bytes[offset + 4] = (byte)record.flags;
+		bytes[offset + 5] = (byte)(record.best >>> 24);
+		bytes[offset + 6] = (byte)(record.best >>> 16);
+		bytes[offset + 7] = (byte)(record.best >>> 8);
+		bytes[offset + 8] = (byte)record.best;
+	}
+
+	private static int getShort(byte[] bytes, int offset) {
+		return ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+	}
+
+	private static int getInt(byte[] bytes, int offset) {
+		return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16) |
+			   ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+	}
+}
@@ -0,0 +1,77 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Timer;
+import com.badlogic.gdx.utils.Timer.Task;
+
+/**
+ * RenderScheduler turns off continuous rendering and only requests frames
+ * when they are needed. Input events already cause the backends to render a
+ * frame, so the scheduler only needs to keep frames coming while a screen is
+ * animating (scrolling, loading, etc) and to redraw at the minimum frame rate
+ * a screen declares for its idle animations.
+ */
+public class RenderScheduler {
+	/// Is on-demand rendering currently enabled?
+	private boolean enabled = false;
+
+	/// Task used to request the next frame for screens with a minimum frame rate
+	private final Task redrawTask = new Task() {
+		@Override
+		public void run() {
+			Gdx.graphics.requestRendering();
+		}
+	};
+
+	/**
+	 * Enables or disables on-demand rendering. When disabled every frame is
+	 * rendered continuously (the libGDX default).
+	 * @param enabled value to use
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		Gdx.graphics.setContinuousRendering(!enabled);
+		if(enabled) {
+			// Make sure the current state is shown at least once
+			Gdx.graphics.requestRendering();
+		} else {
+			redrawTask.cancel();
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Requests a new frame (e.g. the screen changed or new data arrived).
+	 * Does nothing if rendering is continuous.
+	 */
+	public void requestFrame() {
+		if(enabled) {
+			Gdx.graphics.requestRendering();
+		}
+	}
+
+	/**
+	 * Called after each frame is rendered to schedule the next frame.
+	 * @param animating is true if the next frame should be rendered immediately
+	 * @param minimumFrameRate in frames per second to redraw at while idle (0 for none)
+	 */
+	public void frameRendered(boolean animating, float minimumFrameRate) {
+		if(enabled) {
+			if(animating) {
+				Gdx.graphics.requestRendering();
+			} else if(minimumFrameRate > 0.0f && !redrawTask.isScheduled()) {
+				Timer.schedule(redrawTask, 1.0f / minimumFrameRate);
+			}
+		}
+	}
+
+	/**
+	 * Cancels any pending frame requests.
+	 */
+	public void dispose() {
+		redrawTask.cancel();
+	}
+}
@@ -0,0 +1,217 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.cosmicrover.core.GameEnvironment.Platform;
+import com.cosmicrover.core.assets.loaders.DataSerializers;
+
+/**
+ * SaveService writes data files to local storage behind the render thread.
+ * save() takes a snapshot of the data on the calling (render) thread by
+ * serializing it to JSON, which is the only safe copy of an object graph the
+ * render thread keeps modifying. The file is written on a background thread
+ * to a temporary file that then replaces the original (renamed over it
+ * where the platform provides a FileReplacer that can), so a crash never
+ * leaves a half written file. Saving the same file again before the
+ * previous snapshot was written replaces that snapshot (only the latest is
+ * written). flush() waits for every pending write (used when exiting).
+ * Platforms without threads (HTML) write the file directly and
+ * synchronously.
+ */
+public class SaveService implements Disposable {
+	/// Suffix of the temporary file renamed over the saved file
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	/// Serializes the snapshots
+	private final Json json = new Json();
+
+	/// Number of generated serializers our Json was configured with
+	private int serializers = 0;
+
+	/// Writes the snapshots (null if writes are synchronous)
+	private final AsyncExecutor executor;
+
+	/// Replaces each file with the temporary file written for it
+	private final FileReplacer fileReplacer;
+
+	/// Latest snapshot not written yet for each filename
+	private final ObjectMap<String, String> pending = new ObjectMap<String, String>();
+
+	/// Result of the last write submitted (flush waits for it)
+	private AsyncResult<Void> lastWrite = null;
+
+	public SaveService(GameEnvironment gameEnvironment) {
+		this.fileReplacer = gameEnvironment.getFileReplacer();
+		if(Platform.HTML != gameEnvironment.getPlatform()) {
+			executor = new AsyncExecutor(1);
+		} else {
+			executor = null;
+		}
+	}
+
+	/**
+	 * Saves the data provided to the local file provided. The data is
+	 * serialized right away; the file is written in the background.
+	 * @param filename of the local file to write
+	 * @param data to save
+	 */
+	public void save(String filename, Object data) {
+		// Use the generated serializers registered since our last save
+		if(serializers != DataSerializers.getSize()) {
+			DataSerializers.configure(json);
+			serializers = DataSerializers.getSize();
+		}
+		writeString(filename, json.toJson(data));
+	}
+
+	/**
+	 * Writes the contents provided to the local file provided in the
+	 * background, replacing the file (through a temporary file like save).
+	 * @param filename of the local file to write
+	 * @param contents to write
+	 */
+	public void writeString(String filename, String contents) {
+		if(executor != null) {
+			synchronized(pending) {
+				// Only submit a write if none is waiting for this file already
+				boolean queued = pending.containsKey(filename);
+				pending.put(filename, contents);
+				if(!queued) {
+					lastWrite = executor.submit(new WriteTask(filename));
+				}
+			}
+		} else {
+			write(filename, contents);
+		}
+	}
+
+	/**
+	 * Writes the bytes provided to a local file after every write already
+	 * pending, either appended to the file or replacing it (through a
+	 * temporary file like save). The bytes must not be modified afterwards.
+	 * @param filename of the local file to write
+	 * @param bytes to write
+	 * @param append is true to append to the file, false to replace it
+	 */
+	public void write(final String filename, final byte[] bytes, final boolean append) {
+		if(executor != null) {
+			synchronized(pending) {
+				lastWrite = executor.submit(new AsyncTask<Void>() {
+					@Override
+					public Void call() {
+						writeBytes(filename, bytes, append);
+						return null;
+					}
+				});
+			}
+		} else {
+			writeBytes(filename, bytes, append);
+		}
+	}
+
+	/**
+	 * Runs the task provided on our write thread once every snapshot saved
+	 * so far has been written (e.g. to hash the files written without
+	 * blocking the render thread). The task runs right away on platforms
+	 * without threads. Use Gdx.app.postRunnable to get back to the render
+	 * thread.
+	 * @param task to run after the pending writes
+	 */
+	public void whenWritten(final Runnable task) {
+		if(executor != null) {
+			synchronized(pending) {
+				lastWrite = executor.submit(new AsyncTask<Void>() {
+					@Override
+					public Void call() {
+						task.run();
+						return null;
+					}
+				});
+			}
+		} else {
+			task.run();
+		}
+	}
+
+	/**
+	 * Blocks until every snapshot saved so far has been written.
+	 */
+	public void flush() {
+		AsyncResult<Void> write;
+		synchronized(pending) {
+			write = lastWrite;
+		}
+		if(write != null) {
+			// Writes are done in order by a single thread
+			write.get();
+		}
+	}
+
+	@Override
+	public void dispose() {
+		flush();
+		if(executor != null) {
+			executor.dispose();
+		}
+	}
+
+	private void write(String filename, String contents) {
+		try {
+			FileHandle file = Gdx.files.local(filename);
+			if(executor != null) {
+				FileHandle temp = Gdx.files.local(filename + TEMP_SUFFIX);
+				temp.writeString(contents, false);
+				fileReplacer.replace(temp, file);
+			} else {
+				file.writeString(contents, false);
+			}
+		} catch (GdxRuntimeException e) {
+			Gdx.app.error("SaveService", "Unable to save " + filename, e);
+		}
+	}
+
+	private void writeBytes(String filename, byte[] bytes, boolean append) {
+		try {
+			FileHandle file = Gdx.files.local(filename);
+			if(append || executor == null) {
+				file.writeBytes(bytes, append);
+			} else {
+				FileHandle temp = Gdx.files.local(filename + TEMP_SUFFIX);
+				temp.writeBytes(bytes, false);
+				fileReplacer.replace(temp, file);
+			}
+		} catch (GdxRuntimeException e) {
+			Gdx.app.error("SaveService", "Unable to write " + filename, e);
+		}
+	}
+
+	/**
+	 * WriteTask writes the latest snapshot of a file on our executor thread.
+	 */
+	private final class WriteTask implements AsyncTask<Void> {
+		private final String filename;
+
+		public WriteTask(String filename) {
+			this.filename = filename;
+		}
+
+		@Override
+		public Void call() {
+			String contents;
+			synchronized(pending) {
+				contents = pending.remove(filename);
+			}
+			if(contents != null) {
+				write(filename, contents);
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.cosmicrover.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.cosmicrover.core.assets.loaders.ParallelAtlasLoader;
+import com.cosmicrover.core.screens.AbstractScreen;
+
+/**
+ * ScreenAssets reference counts the assets declared by the asset manifest of
+ * each screen (see AbstractScreen.getAssetManifest). An asset is queued with
+ * the AssetManager when the first screen referencing it is acquired and
+ * unloaded when the last screen referencing it is released. An asset that is
+ * already loaded when first referenced (e.g. loaded at boot) is adopted and
+ * unloaded like any other once it is no longer referenced.
+ */
+public class ScreenAssets {
+	private final AssetManager assetManager;
+
+	/// Decodes the pages of each TextureAtlas queued in parallel (may be null)
+	private final ParallelAtlasLoader atlasLoader;
+
+	/// Number of acquired screens referencing each asset filename
+	private final ObjectIntMap<String> references = new ObjectIntMap<String>();
+
+	/// Screens currently holding a reference to their manifest
+	private final ObjectSet<Screen> acquired = new ObjectSet<Screen>();
+
+	public ScreenAssets(AssetManager assetManager, ParallelAtlasLoader atlasLoader) {
+		this.assetManager = assetManager;
+		this.atlasLoader = atlasLoader;
+	}
+
+	/**
+	 * Adds a reference to every asset in the manifest of the screen provided,
+	 * queuing the ones that aren't loaded yet. Does nothing if the screen
+	 * already holds its references.
+	 * @param screen to acquire the assets of
+	 */
+	public void acquire(Screen screen) {
+		if(screen instanceof AbstractScreen && acquired.add(screen)) {
+			for(AssetDescriptor<?> asset : ((AbstractScreen<?,?>)screen).getAssetManifest()) {
+				int count = references.get(asset.fileName, 0);
+				if(count == 0 && !assetManager.isLoaded(asset.fileName, asset.type)) {
+					assetManager.load(asset);
+
+					// Start decoding the atlas pages before the AssetManager gets to them
+					if(atlasLoader != null && TextureAtlas.class == asset.type) {
+						atlasLoader.prepare(asset.fileName);
+					}
+				}
+				references.put(asset.fileName, count + 1);
+			}
+		}
+	}
+
+	/**
+	 * Removes the references added by acquire() for the screen provided and
+	 * unloads every asset no longer referenced by any screen.
+	 * @param screen to release the assets of
+	 */
+	public void release(Screen screen) {
+		if(screen != null && acquired.remove(screen)) {
+			for(AssetDescriptor<?> asset : ((AbstractScreen<?,?>)screen).getAssetManifest()) {
+				int count = references.get(asset.fileName, 0) - 1;
+				if(count > 0) {
+					references.put(asset.fileName, count);
+				} else {
+					references.remove(asset.fileName, 0);
+					Gdx.app.debug("ScreenAssets", "Unloading " + asset.fileName);
+					assetManager.unload(asset.fileName);
+					if(atlasLoader != null && TextureAtlas.class == asset.type) {
+						atlasLoader.discard(asset.fileName);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param screen to check
+	 * @return true if every asset in the manifest of the screen is loaded
+	 */
+	public boolean isLoaded(Screen screen) {
+		boolean result = true;
+		if(screen instanceof AbstractScreen) {
+			Array<AssetDescriptor<?>> manifest = ((AbstractScreen<?,?>)screen).getAssetManifest();
+			for(int i=0; result && i<manifest.size; i++) {
+				result = assetManager.isLoaded(manifest.get(i).fileName, manifest.get(i).type);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Forgets every reference (used when the AssetManager is disposed).
+	 */
+	public void clear() {
+		references.clear();
+		acquired.clear();
+	}
+}
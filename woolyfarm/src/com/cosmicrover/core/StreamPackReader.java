@@ -0,0 +1,50 @@
+package com.cosmicrover.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * StreamPackReader reads a range of a pack file by skipping to the offset of
+ * a new input stream, which works for every FileHandle type (APK assets,
+ * classpath, HTTP preloaded files, etc).
+ */
+public class StreamPackReader implements PackReader {
+	@Override
+	public byte[] read(FileHandle file, int offset, int length) {
+		byte[] result = new byte[length];
+		InputStream input = file.read();
+		try {
+			// Skip to our offset (skip may skip less than requested)
+			long remaining = offset;
+			while(remaining > 0) {
+				long skipped = input.skip(remaining);
+				if(skipped <= 0) {
+					throw new GdxRuntimeException("Unable to seek to " + offset + " in " + file.path());
+				}
+				remaining -= skipped;
+			}
+
+			// Read the whole range requested
+			int position = 0;
+			while(position < length) {
+				int count = input.read(result, position, length - position);
+				if(count < 0) {
+					throw new GdxRuntimeException("Unexpected end of " + file.path());
+				}
+				position += count;
+			}
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Unable to read " + file.path(), e);
+		} finally {
+			try {
+				input.close();
+			} catch (IOException e) {
+				// Nothing more to do, our bytes were already read
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,42 @@
+package com.cosmicrover.core.assets.loaders;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.MusicLoader.MusicParameter;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * AsyncMusicLoader opens (and prepares) each Music stream on the AssetManager
+ * loader thread instead of the render thread like the stock MusicLoader, so
+ * opening a track never stalls a frame.
+ */
+public class AsyncMusicLoader extends AsynchronousAssetLoader<Music, MusicParameter> {
+	/// Music opened by loadAsync, waiting for loadSync
+	private Music music = null;
+
+	public AsyncMusicLoader() {
+		super(new InternalFileHandleResolver());
+	}
+
+	@Override
+	public void loadAsync(AssetManager manager, String fileName, MusicParameter parameter) {
+		music = Gdx.audio.newMusic(resolve(fileName));
+	}
+
+	@Override
+	public Music loadSync(AssetManager manager, String fileName, MusicParameter parameter) {
+		Music result = music;
+		music = null;
+		return result;
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Array<AssetDescriptor> getDependencies(String fileName, MusicParameter parameter) {
+		return null;
+	}
+}
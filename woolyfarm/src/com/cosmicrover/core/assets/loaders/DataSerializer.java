@@ -0,0 +1,51 @@
+package com.cosmicrover.core.assets.loaders;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * DataSerializer reads and writes the fields of a data class directly instead
+ * of through Json reflection. Implementations are generated at build time by
+ * the desktop SerializerGenerator and registered with DataSerializers.
+ * readFields() can fill an existing object, which is what JsonDataLoader
+ * needs to load into the data object provided by its parameters.
+ */
+public abstract class DataSerializer<T> implements Json.Serializer<T> {
+	/**
+	 * Writes every serialized field of the object provided (the enclosing
+	 * JSON object is written by the caller).
+	 * @param json to write with
+	 * @param object to write the fields of
+	 */
+	public abstract void writeFields(Json json, T object);
+
+	/**
+	 * Reads every serialized field found in jsonData into the object provided
+	 * (fields missing from jsonData keep their value).
+	 * @param json to read nested values with
+	 * @param jsonData of the object
+	 * @param object to read the fields into
+	 */
+	public abstract void readFields(Json json, JsonValue jsonData, T object);
+
+	/**
+	 * @return a new instance of the data class
+	 */
+	protected abstract T newInstance();
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public void write(Json json, T object, Class knownType) {
+		json.writeObjectStart(object.getClass(), knownType);
+		writeFields(json, object);
+		json.writeObjectEnd();
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public T read(Json json, JsonValue jsonData, Class type) {
+		T object = newInstance();
+		readFields(json, jsonData, object);
+		return object;
+	}
+}
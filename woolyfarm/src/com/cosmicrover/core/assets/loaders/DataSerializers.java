@@ -0,0 +1,64 @@
+package com.cosmicrover.core.assets.loaders;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * DataSerializers holds the generated DataSerializer of each data class.
+ * Json instances used to load or save data files are configured with them
+ * through configure(); classes without a generated serializer fall back to
+ * Json reflection.
+ */
+public class DataSerializers {
+	/// Generated serializers by data class
+	private static final ObjectMap<Class<?>, DataSerializer<?>> serializers = new ObjectMap<Class<?>, DataSerializer<?>>();
+
+	/**
+	 * Registers the serializer provided for the data class provided (called
+	 * by the generated registration code).
+	 * @param type of the data class
+	 * @param serializer generated for the data class
+	 */
+	public static synchronized <T> void register(Class<T> type, DataSerializer<T> serializer) {
+		serializers.put(type, serializer);
+	}
+
+	/**
+	 * @return the number of serializers registered
+	 */
+	public static synchronized int getSize() {
+		return serializers.size;
+	}
+
+	/**
+	 * Sets every registered serializer on the Json instance provided.
+	 * @param json to configure
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static synchronized void configure(Json json) {
+		for(ObjectMap.Entry<Class<?>, DataSerializer<?>> entry : serializers.entries()) {
+			json.setSerializer((Class)entry.key, (Json.Serializer)entry.value);
+		}
+	}
+
+	/**
+	 * Reads jsonData into the existing object provided with its generated
+	 * serializer, or with Json reflection if it has none.
+	 * @param json to read with
+	 * @param jsonData of the object
+	 * @param object to read into
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void readFields(Json json, JsonValue jsonData, T object) {
+		DataSerializer<T> serializer;
+		synchronized(DataSerializers.class) {
+			serializer = (DataSerializer<T>)serializers.get(object.getClass());
+		}
+		if(serializer != null) {
+			serializer.readFields(json, jsonData, object);
+		} else {
+			json.readFields(object, jsonData);
+		}
+	}
+}
@@ -0,0 +1,312 @@
+package com.cosmicrover.core.assets.loaders;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.TextureAtlasLoader.TextureAtlasParameter;
+import com.badlogic.gdx.assets.loaders.TextureLoader.TextureParameter;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * ParallelAtlasLoader loads a TextureAtlas like the stock TextureAtlasLoader
+ * (each page is a Texture dependency), except that every page image is
+ * decoded into a Pixmap on a pool of decoder threads sized to the number of
+ * processors (see GameEnvironment.getProcessors). The AssetManager only
+ * waits for the decoded Pixmap when it prepares the page Texture, and each
+ * page is still uploaded on the render thread as its own asset so the
+ * uploads are spread over the frames within the loading time budget. Calling prepare() when an atlas is queued starts decoding its
+ * pages right away, so the pages of every atlas queued together are decoded
+ * at the same time instead of one after the other.
+ */
+public class ParallelAtlasLoader extends SynchronousAssetLoader<TextureAtlas, TextureAtlasParameter> implements Disposable {
+	/// Decodes the page images
+	private final AsyncExecutor decoders;
+
+	/// Atlases whose pages are being decoded ahead of their load by filename
+	private final ObjectMap<String, PreparedAtlas> prepared;
+
+	/// Atlases whose pages were handed to the AssetManager by filename
+	private final ObjectMap<String, PreparedAtlas> loading;
+
+	public ParallelAtlasLoader(int decoderThreads) {
+		super(new InternalFileHandleResolver());
+		this.decoders = new AsyncExecutor(Math.max(1, decoderThreads));
+		this.prepared = new ObjectMap<String, PreparedAtlas>();
+		this.loading = new ObjectMap<String, PreparedAtlas>();
+	}
+
+	/**
+	 * Starts decoding the pages of the atlas provided (called when the atlas
+	 * is queued with the AssetManager). Does nothing if already started or if
+	 * the AssetManager is already loading the atlas.
+	 * @param fileName of the atlas
+	 */
+	public synchronized void prepare(String fileName) {
+		if(!prepared.containsKey(fileName) && !loading.containsKey(fileName)) {
+			prepared.put(fileName, new PreparedAtlas(resolve(fileName), false));
+		}
+	}
+
+	/**
+	 * Drops the pages decoded for an atlas that won't be loaded after all
+	 * (e.g. unloaded before the AssetManager reached it or while it was
+	 * loading its pages). Pages still needed by the AssetManager are decoded
+	 * again from their files.
+	 * @param fileName of the atlas
+	 */
+	public synchronized void discard(String fileName) {
+		PreparedAtlas atlas = prepared.remove(fileName);
+		if(atlas != null) {
+			atlas.release();
+		}
+		atlas = loading.remove(fileName);
+		if(atlas != null) {
+			atlas.release();
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public synchronized Array<AssetDescriptor> getDependencies(String fileName, TextureAtlasParameter parameter) {
+		// Use the pages already being decoded if they were prepared the same way
+		boolean flip = parameter != null && parameter.flip;
+		PreparedAtlas atlas = prepared.remove(fileName);
+		if(atlas != null && atlas.flip != flip) {
+			atlas.release();
+			atlas = null;
+		}
+		if(atlas == null) {
+			atlas = new PreparedAtlas(resolve(fileName), flip);
+		}
+		loading.put(fileName, atlas);
+
+		// Each page is loaded as a Texture from the Pixmap decoded for it
+		Array<AssetDescriptor> result = new Array<AssetDescriptor>();
+		for(int i=0; i<atlas.pages.size; i++) {
+			Page page = atlas.data.getPages().get(i);
+			TextureParameter textureParameter = new TextureParameter();
+			textureParameter.textureData = atlas.pages.get(i);
+			textureParameter.genMipMaps = page.useMipMaps;
+			textureParameter.minFilter = page.minFilter;
+			textureParameter.magFilter = page.magFilter;
+			textureParameter.wrapU = page.uWrap;
+			textureParameter.wrapV = page.vWrap;
+			result.add(new AssetDescriptor<Texture>(getPath(page), Texture.class, textureParameter));
+		}
+		return result;
+	}
+
+	@Override
+	public TextureAtlas load(AssetManager assetManager, String fileName, TextureAtlasParameter parameter) {
+		PreparedAtlas atlas;
+		synchronized(this) {
+			atlas = loading.remove(fileName);
+		}
+
+		// Parse the atlas again if it was discarded while its pages loaded
+		TextureAtlasData data;
+		if(atlas != null) {
+			data = atlas.data;
+		} else {
+			FileHandle packFile = resolve(fileName);
+			data = new TextureAtlasData(packFile, packFile.parent(), parameter != null && parameter.flip);
+		}
+		for(Page page : data.getPages()) {
+			page.texture = assetManager.get(getPath(page), Texture.class);
+		}
+
+		// Pages already loaded by another atlas never used their decoded Pixmap
+		if(atlas != null) {
+			atlas.release();
+		}
+		return new TextureAtlas(data);
+	}
+
+	@Override
+	public synchronized void dispose() {
+		for(PreparedAtlas atlas : prepared.values()) {
+			atlas.release();
+		}
+		prepared.clear();
+		for(PreparedAtlas atlas : loading.values()) {
+			atlas.release();
+		}
+		loading.clear();
+		decoders.dispose();
+	}
+
+	private static String getPath(Page page) {
+		return page.textureFile.path().replaceAll("\\\\", "/");
+	}
+
+	/**
+	 * PreparedAtlas is the parsed description of an atlas along with the
+	 * TextureData of each of its pages (being decoded).
+	 */
+	private final class PreparedAtlas {
+		final TextureAtlasData data;
+		final Array<PageTextureData> pages;
+		final boolean flip;
+
+		PreparedAtlas(FileHandle packFile, boolean flip) {
+			this.data = new TextureAtlasData(packFile, packFile.parent(), flip);
+			this.pages = new Array<PageTextureData>(data.getPages().size);
+			this.flip = flip;
+
+			// Start decoding every page on our decoder threads
+			for(Page page : data.getPages()) {
+				pages.add(new PageTextureData(page, decoders));
+			}
+		}
+
+		void release() {
+			for(PageTextureData page : pages) {
+				page.release();
+			}
+		}
+	}
+
+	/**
+	 * PageTextureData provides the Pixmap decoded by a decoder thread to the
+	 * Texture of a page. Once uploaded, the page image is decoded again from
+	 * its file whenever the Texture has to be reloaded (managed Texture).
+	 */
+	private static final class PageTextureData implements TextureData {
+		private final FileHandle file;
+		private final Format format;
+		private final boolean useMipMaps;
+
+		/// Pixmap being decoded (null once taken or released)
+		private AsyncResult<Pixmap> decoding;
+
+		/// Pixmap prepared for the Texture
+		private Pixmap pixmap = null;
+		private boolean prepared = false;
+		private Format preparedFormat = null;
+		private int width = 0;
+		private int height = 0;
+
+		PageTextureData(Page page, AsyncExecutor decoders) {
+			this.file = page.textureFile;
+			this.format = page.format;
+			this.useMipMaps = page.useMipMaps;
+			this.decoding = decoders.submit(new AsyncTask<Pixmap>() {
+				@Override
+				public Pixmap call() {
+					return new Pixmap(file);
+				}
+			});
+		}
+
+		/**
+		 * Disposes the decoded Pixmap if it was never used.
+		 */
+		synchronized void release() {
+			if(decoding != null) {
+				decoding.get().dispose();
+				decoding = null;
+			}
+		}
+
+		@Override
+		public TextureDataType getType() {
+			return TextureDataType.Pixmap;
+		}
+
+		@Override
+		public boolean isPrepared() {
+			return prepared;
+		}
+
+		@Override
+		public synchronized void prepare() {
+			if(prepared) {
+				throw new GdxRuntimeException("Already prepared");
+			}
+
+			// Wait for our decoder thread (or decode again when reloading)
+			if(decoding != null) {
+				pixmap = decoding.get();
+				decoding = null;
+			} else {
+				pixmap = new Pixmap(file);
+			}
+
+			// Convert to the format of the page if needed (like FileTextureData)
+			if(format != null && pixmap.getFormat() != format) {
+				Pixmap converted = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), format);
+				Pixmap.setBlending(Blending.None);
+				converted.drawPixmap(pixmap, 0, 0, 0, 0, pixmap.getWidth(), pixmap.getHeight());
+				Pixmap.setBlending(Blending.SourceOver);
+				pixmap.dispose();
+				pixmap = converted;
+			}
+			preparedFormat = pixmap.getFormat();
+			width = pixmap.getWidth();
+			height = pixmap.getHeight();
+			prepared = true;
+		}
+
+		@Override
+		public synchronized Pixmap consumePixmap() {
+			if(!prepared) {
+				throw new GdxRuntimeException("Call prepare() before calling consumePixmap()");
+			}
+			Pixmap result = pixmap;
+			pixmap = null;
+			prepared = false;
+			return result;
+		}
+
+		@Override
+		public boolean disposePixmap() {
+			return true;
+		}
+
+		@Override
+		public void consumeCompressedData() {
+			throw new GdxRuntimeException("This TextureData implementation does not upload data itself");
+		}
+
+		@Override
+		public int getWidth() {
+			return width;
+		}
+
+		@Override
+		public int getHeight() {
+			return height;
+		}
+
+		@Override
+		public Format getFormat() {
+			return format != null ? format : preparedFormat;
+		}
+
+		@Override
+		public boolean useMipMaps() {
+			return useMipMaps;
+		}
+
+		@Override
+		public boolean isManaged() {
+			return true;
+		}
+	}
+}
@@ -1,10 +1,17 @@
 package com.cosmicrover.core.screens;
 
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.Array;
+import com.cosmicrover.core.FrameProfiler;
 import com.cosmicrover.core.GameManager;
 import com.cosmicrover.core.assets.GameData;
 import com.cosmicrover.core.assets.GroupData;
 import com.cosmicrover.core.assets.LevelData;
+import com.cosmicrover.core.ui.utils.StyleCache;
 
 public class AbstractScreen<L extends LevelData, G extends GroupData<L>> implements Screen {
 	/// Name of this screen
@@ -21,6 +28,12 @@ public class AbstractScreen<L extends LevelData, G extends GroupData<L>> impleme
 	
 	/// Indicates this screen has never been shown yet.
 	private boolean firstTime = true; 
+
+	/// Has this screen acquired the shared fonts and styles?
+	private boolean stylesAcquired = false;
+
+	/// Assets that must be loaded before this screen is shown
+	private final Array<AssetDescriptor<?>> assetManifest = new Array<AssetDescriptor<?>>();
 	
 	public AbstractScreen(String screenName, int screenId, GameManager<L,G> gameManager) {
 		this(screenName, screenId, gameManager, GameData.EXIT_GAME_SCREEN);
@@ -57,6 +70,102 @@ public class AbstractScreen<L extends LevelData, G extends GroupData<L>> impleme
 		this.backScreenId = screenId;
 	}
 
+	/**
+	 * Returns the assets this screen needs while it is shown. GameManager
+	 * loads them before show() is called (switching to the asset loading
+	 * screen if needed) and unloads them after hide() once no other screen
+	 * references them.
+	 * @return the asset manifest of this screen
+	 */
+	public Array<AssetDescriptor<?>> getAssetManifest() {
+		return assetManifest;
+	}
+
+	/**
+	 * Adds an asset to our manifest, should be called by the constructor.
+	 * @param fileName of the asset
+	 * @param type of the asset (e.g. TextureAtlas.class)
+	 */
+	protected <T> void addAsset(String fileName, Class<T> type) {
+		assetManifest.add(new AssetDescriptor<T>(fileName, type));
+	}
+
+	/**
+	 * Returns the music track played while this screen is shown. GameManager
+	 * starts opening it in the background as soon as the screen is selected.
+	 * @return filename of the music track (null if the screen has none)
+	 */
+	public String getMusicFilename() {
+		return null;
+	}
+
+	/**
+	 * Returns true while this screen needs to be redrawn every frame, even
+	 * without any user input (e.g. a scroll pane is flinging or an action is
+	 * running). Only used when on-demand rendering is enabled.
+	 * @return true if the next frame should be rendered immediately
+	 */
+	public boolean isAnimating() {
+		return false;
+	}
+
+	/**
+	 * Returns the minimum frame rate this screen must be redrawn at when idle
+	 * to keep its animations moving. Only used when on-demand rendering is
+	 * enabled.
+	 * @return frames per second (0 if the screen only changes on input)
+	 */
+	public float getMinimumFrameRate() {
+		return 0.0f;
+	}
+
+	/**
+	 * Returns the shared fonts and styles, acquiring them the first time this
+	 * screen asks for them. They are released again by dispose().
+	 * @return the StyleCache shared by every screen
+	 */
+	protected StyleCache getStyles() {
+		if(!stylesAcquired) {
+			gameManager.getStyles().acquire();
+			stylesAcquired = true;
+		}
+		return gameManager.getStyles();
+	}
+
+	/**
+	 * Acts and draws the stage provided while timing both for the frame
+	 * profiler. Table debug lines are drawn while the profiler overlay is
+	 * shown.
+	 * @param stage to act and draw
+	 * @param delta time in seconds since the last frame
+	 */
+	protected void renderStage(Stage stage, float delta) {
+		FrameProfiler profiler = gameManager.getProfiler();
+		profiler.beginAct();
+		stage.act(delta);
+		profiler.endAct();
+
+		profiler.beginDraw();
+		stage.draw();
+		profiler.endDraw(stage.getSpriteBatch());
+
+		if(profiler.isOverlayVisible()) {
+			Table.drawDebug(stage);
+		}
+	}
+
+	/**
+	 * Helper for isAnimating that reports if the ScrollPane provided is still
+	 * moving on its own (flinging or smooth scrolling to its target).
+	 * @param scrollPane to check (may be null)
+	 * @return true if the scroll pane is moving
+	 */
+	protected static boolean isScrolling(ScrollPane scrollPane) {
+		return scrollPane != null && (scrollPane.isFlinging() ||
+				scrollPane.getVisualScrollX() != scrollPane.getScrollX() ||
+				scrollPane.getVisualScrollY() != scrollPane.getScrollY());
+	}
+
 	/////////////////////////////////////////////////////////////////////////
 	// Screen interface methods
 	/////////////////////////////////////////////////////////////////////////
@@ -95,6 +204,10 @@ public class AbstractScreen<L extends LevelData, G extends GroupData<L>> impleme
 
 	@Override
 	public void dispose() {
-		// TODO: Add dispose calls for anything specific to this Screen
+		// Release the shared fonts and styles if we acquired them
+		if(stylesAcquired) {
+			gameManager.getStyles().release();
+			stylesAcquired = false;
+		}
 	}
 }
@@ -1,14 +1,18 @@
 package com.cosmicrover.core.screens;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.cosmicrover.core.AssetStreamer;
 import com.cosmicrover.core.GameManager;
 import com.cosmicrover.core.assets.GameData;
 import com.cosmicrover.core.assets.GroupData;
@@ -19,6 +23,13 @@ public class AssetLoadingScreen<L extends LevelData, G extends GroupData<L>> ext
 	/// Default Lag delay for this Loading screen
 	private static final float DEFAULT_LAG_DELAY_S = 0.0f;
 
+	/// TextureAtlas used to draw this Loading screen
+	private static final String LOADING_ATLAS = "loading.pack";
+
+	/// Size of the placeholder progress bar drawn until our atlas is loaded
+	private static final float PLACEHOLDER_WIDTH = 450.0f;
+	private static final float PLACEHOLDER_HEIGHT = 20.0f;
+
 	/// The Stage2d stage object used to render actors
     private Stage stage = null;
     /// The logo image to be rendered
@@ -37,6 +48,12 @@ public class AssetLoadingScreen<L extends LevelData, G extends GroupData<L>> ext
     // The startX position and endX position for scaling the loading bar
     private float startX, endX;
 
+    // The last screen size provided to resize (used when the stage is created late)
+    private int screenWidth, screenHeight;
+
+    // The last tenth of loading progress written to our log
+    private int loggedProgress = -1;
+
     public AssetLoadingScreen(GameManager<L,G> gameManager) {
 		this(gameManager, DEFAULT_LAG_DELAY_S);
 	}
@@ -44,9 +61,9 @@ public class AssetLoadingScreen<L extends LevelData, G extends GroupData<L>> ext
 	public AssetLoadingScreen(GameManager<L,G> gameManager, float lagDelay_s) {
 		super("AssetLoadingScreen", GameData.ASSET_LOADING_SCREEN, gameManager, lagDelay_s);
 
-		// Load the assets we need for displaying the loading screen immediately
-		gameManager.getAssetManager().load("loading.pack", TextureAtlas.class);
-        gameManager.getAssetManager().finishLoading();
+		// Declare the assets we need for displaying the loading screen, a
+		// placeholder bar is drawn until they finish loading in the background
+		addAsset(LOADING_ATLAS, TextureAtlas.class);
 	}
 
 	@Override
@@ -55,41 +72,69 @@ public class AssetLoadingScreen<L extends LevelData, G extends GroupData<L>> ext
         Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
         
 		// Update our asset loading progress
-		float percentComplete = gameManager.getAssetManager().getProgress();
+		AssetManager assetManager = gameManager.getAssetManager();
+		float percentComplete = assetManager.getProgress();
 		
-		// Check our asset loading progress (returns true if assets are done loading)
-		if(gameManager.getAssetManager().update()) {
+		// Check our asset loading progress (returns true if assets are done
+		// loading) and let our LoadQueue hand over its next prioritized request
+		boolean assetsLoaded = gameManager.getAssetStreamer().update(AssetStreamer.LOADING_SHARE);
+		boolean requestsLoaded = gameManager.getLoadQueue().update();
+		if(assetsLoaded && requestsLoaded) {
     		// Report that we are done loading
     		reportDone();
 
     		// Fix our percent to 1.0
 			percentComplete = 1.0f;
 		}
-		
-        // Update positions (and size) to match the percentage
-        loadingBarHidden.setX(startX + endX * percentComplete);
-        loadingBg.setX(loadingBarHidden.getX() + 30);
-        loadingBg.setWidth(450 - 450 * percentComplete);
-        loadingBg.invalidate();
 
-        // Show the loading screen
-        stage.act();
-        stage.draw();
+		// Create our stage as soon as our own atlas has been loaded
+		if(stage == null && assetManager.isLoaded(LOADING_ATLAS, TextureAtlas.class)) {
+			createStage();
+		}
+
+		if(stage != null) {
+	        // Update positions (and size) to match the percentage
+	        loadingBarHidden.setX(startX + endX * percentComplete);
+	        loadingBg.setX(loadingBarHidden.getX() + 30);
+	        loadingBg.setWidth(450 - 450 * percentComplete);
+	        loadingBg.invalidate();
+
+	        // Show the loading screen
+	        renderStage(stage, delta);
+		} else {
+			// Show a placeholder until our atlas is available
+			drawPlaceholder(percentComplete);
+		}
         
-        // Log the percent complete
-        Gdx.app.debug("AssetLoadingScreen", "Loading percent=" + percentComplete);
+        // Log the percent complete (only when it changes noticeably)
+        loggedProgress = AssetStreamer.logProgress("AssetLoadingScreen", percentComplete, loggedProgress);
 	}
 
 	@Override
 	public void show() {
 		// Call our parent class implementation
 		super.show();
+		loggedProgress = -1;
+
+		// Dispose any stage left from a previous visit
+		if(stage != null) {
+			stage.dispose();
+			stage = null;
+		}
+
+		// Create our stage now if our atlas is available (otherwise the
+		// first frames draw a placeholder and handleRender creates it)
+		if(gameManager.getAssetManager().isLoaded(LOADING_ATLAS, TextureAtlas.class)) {
+			createStage();
+		}
+	}
 
+	private void createStage() {
         // Initialize the stage where we will place everything
         stage = new Stage();
 
         // Get our TextureAtlas from the manager
-        TextureAtlas atlas = gameManager.getAssetManager().get("loading.pack", TextureAtlas.class);
+        TextureAtlas atlas = gameManager.getAssetManager().get(LOADING_ATLAS, TextureAtlas.class);
 
         // Grab the regions from the atlas and create some images
         logo = new Image(atlas.findRegion("libgdx-logo"));
@@ -113,13 +158,45 @@ public class AssetLoadingScreen<L extends LevelData, G extends GroupData<L>> ext
         stage.addActor(loadingBarHidden);
         stage.addActor(loadingFrame);
         stage.addActor(logo);
+
+        // Layout our stage if we already know the screen size
+        if(screenWidth > 0 && screenHeight > 0) {
+        	layoutStage(screenWidth, screenHeight);
+        }
     }
 
+	/**
+	 * Draws a plain progress bar with the ShapeRenderer while our loading
+	 * atlas is still being loaded, so the first frame appears immediately.
+	 * @param percentComplete of the assets loaded so far
+	 */
+	private void drawPlaceholder(float percentComplete) {
+		ShapeRenderer shapeRenderer = gameManager.getShapeRenderer();
+		float x = (Gdx.graphics.getWidth() - PLACEHOLDER_WIDTH) / 2;
+		float y = (Gdx.graphics.getHeight() - PLACEHOLDER_HEIGHT) / 2;
+		shapeRenderer.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		shapeRenderer.begin(ShapeType.Filled);
+		shapeRenderer.setColor(0.3f, 0.3f, 0.3f, 1.0f);
+		shapeRenderer.rect(x, y, PLACEHOLDER_WIDTH, PLACEHOLDER_HEIGHT);
+		shapeRenderer.setColor(1.0f, 1.0f, 1.0f, 1.0f);
+		shapeRenderer.rect(x, y, PLACEHOLDER_WIDTH * percentComplete, PLACEHOLDER_HEIGHT);
+		shapeRenderer.end();
+	}
+
 	@Override
 	public void resize(int width, int height) {
 		// Call our parent class implementation
 		super.resize(width, height);
 
+		// Remember our size in case our stage is created later
+		screenWidth = width;
+		screenHeight = height;
+		if(stage != null) {
+			layoutStage(width, height);
+		}
+	}
+
+	private void layoutStage(int width, int height) {
         // Set our screen to always be XXX x 480 in size
         width = 480 * width / height;
         height = 480;
@@ -157,7 +234,10 @@ public class AssetLoadingScreen<L extends LevelData, G extends GroupData<L>> ext
 	@Override
 	public void hide() {
 		// Remove our stage object
-		stage.dispose();
+		if(stage != null) {
+			stage.dispose();
+			stage = null;
+		}
 		
         // Call our parent class implementation last
 		super.hide();
@@ -166,7 +246,6 @@ public class AssetLoadingScreen<L extends LevelData, G extends GroupData<L>> ext
 	private class LoadingBar extends Actor {
 	    private Animation animation;
 	    private TextureRegion textureRegion;
-	    private float stateTime;
 
 	    public LoadingBar(Animation animation) {
 	        this.animation = animation;
@@ -175,8 +254,7 @@ public class AssetLoadingScreen<L extends LevelData, G extends GroupData<L>> ext
 
 	    @Override
 	    public void act(float delta) {
-	        stateTime += delta;
-	        textureRegion = animation.getKeyFrame(stateTime);
+	        textureRegion = animation.getKeyFrame(gameManager.getAnimationClock().getTime());
 	    }
 
 	    @Override
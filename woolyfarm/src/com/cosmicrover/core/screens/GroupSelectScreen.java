@@ -1,16 +1,9 @@
 package com.cosmicrover.core.screens;
 
-import java.util.HashMap;
-
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL10;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
@@ -22,14 +15,16 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton.TextButtonStyle;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.ArrayMap.Keys;
 import com.cosmicrover.core.GameManager;
+import com.cosmicrover.core.GroupCatalog;
 import com.cosmicrover.core.GroupManager;
 import com.cosmicrover.core.GameEnvironment.Platform;
 import com.cosmicrover.core.assets.GameData;
 import com.cosmicrover.core.assets.GroupData;
 import com.cosmicrover.core.assets.LevelData;
+import com.cosmicrover.core.ui.utils.AtlasDrawables;
+import com.cosmicrover.core.ui.utils.StyleCache;
 import com.cosmicrover.woolyfarm.assets.WoolyGameData;
 
 public class GroupSelectScreen<L extends LevelData, G extends GroupData<L>> extends AbstractScreen<L,G> {
@@ -39,18 +34,22 @@ public class GroupSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 	private Table stageTable = null;
 	private Label title = null;
 	private Table groupTable = null;
+	private ScrollPane groupScrollPane = null;
 	private TextButton backButton = null;
 	private BitmapFont buttonFont = null;
 	private ButtonListener buttonListener = null;
 
-	/// Maps region name to AtlasRegion information to texture
-	private HashMap<String, AtlasRegion> groupRegions;
+	/// TextureAtlas used by this screen (part of our asset manifest)
+	private static final String GROUP_ATLAS = "group_select.pack";
 
-	/// TextureAtlas that can carve up the sprite texture to show the correct texture
-	private TextureAtlas groupTextureAtlas;
+	/// Shared drawables for each region of our group select TextureAtlas
+	private AtlasDrawables groupDrawables;
 
 	public GroupSelectScreen(GameManager<L,G> gameManager, int backScreenId) {
 		super("GroupSelectScreen", GameData.GROUP_SELECT_SCREEN, gameManager, backScreenId);
+
+		// Declare the TextureAtlas we need loaded before we are shown
+		addAsset(GROUP_ATLAS, TextureAtlas.class);
 	}
 
 	@Override
@@ -59,12 +58,15 @@ public class GroupSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 		Gdx.gl.glClearColor(0.0f, 0.0f, 0.0f, 1);
 		Gdx.gl10.glClear(GL10.GL_COLOR_BUFFER_BIT);
 		
-		// Handle our Stage2d processing here
-        stage.act(Gdx.graphics.getDeltaTime());
-        stage.draw();
-        
-        // Draw debug lines for table
-        Table.drawDebug(stage);
+		// Handle our Stage2d processing here (also draws table debug lines
+		// while the profiler overlay is shown)
+        renderStage(stage, Gdx.graphics.getDeltaTime());
+	}
+
+	@Override
+	public boolean isAnimating() {
+		// Keep rendering while the buttons are flinging or smooth scrolling
+		return isScrolling(groupScrollPane);
 	}
 
 	@Override
@@ -72,21 +74,24 @@ public class GroupSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 		// Call our base class implementation (sets our Back button screen)
 		super.show();
 
+		// Retrieve the shared drawables for our group select TextureAtlas (new drawables
+		// are returned if the atlas was unloaded since we were last shown)
+		AtlasDrawables drawables = gameManager.getDrawables(GROUP_ATLAS);
+
 		// First time showing this screen? then create our stage and other UI elements
 		if(isFirstTime()) {
-			// Create a hash map for looking up texture regions by string name found in SpriteComponent
-			groupRegions = new HashMap<String, AtlasRegion>();
-			groupTextureAtlas = gameManager.getAssetManager().get("group_select.pack");
-			// Create a map of each region available in our sprite TextureAtlas
-			for (AtlasRegion region : groupTextureAtlas.getRegions()) {
-				groupRegions.put(region.name, region);
-			}
+			groupDrawables = drawables;
 
 			// Create our stage objects on first time
 			createStage();
 			
 			// Clear our first time flag
 			clearFirstTime();
+		} else if(drawables != groupDrawables) {
+			// Our atlas was reloaded, recreate our stage with the new drawables
+			stage.dispose();
+			groupDrawables = drawables;
+			createStage();
 		} else {
 			// TODO: Enable existing entities used only for this Screen
 		}
@@ -123,17 +128,15 @@ public class GroupSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 		
 		// Give stage a chance to dispose itself
 		stage.dispose();
+
+		// Call our parent class implementation last (releases our shared styles)
+		super.dispose();
 	}
 
 	private void createStage() {
-        // Retrieve the font we will use for text messages
-		Texture fontTexture = new Texture(Gdx.files.internal("fonts/font_normal.png"));
-		fontTexture.setFilter(TextureFilter.Linear, TextureFilter.MipMapLinearLinear);
-		TextureRegion fontRegion = new TextureRegion(fontTexture);
-		BitmapFont labelFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		labelFont.setUseIntegerPositions(false);
-		buttonFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		buttonFont.setUseIntegerPositions(false);
+        // Retrieve the shared fonts and styles we will use for text messages
+		StyleCache styles = getStyles();
+		buttonFont = styles.getButtonFont();
 
 		// Create our stage object and buttons
 		stage = new Stage(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true, gameManager.getSpriteBatch());
@@ -148,23 +151,16 @@ public class GroupSelectScreen<L extends LevelData, G extends GroupData<L>> exte
         stage.addActor(background);
         stage.addActor(stageTable);
         
-		// Create our LabelStyle
-		LabelStyle labelStyle = new LabelStyle();
-		labelStyle.font = labelFont;
-		labelStyle.fontColor = Color.CYAN;
+		// Use the shared LabelStyle
+		LabelStyle labelStyle = styles.getLabelStyle();
 
 		// Create and add our Title Label
 		title = new Label("Group Select", labelStyle);
 		stageTable.add(title).center().expandX();
 		stageTable.row();
 
-		// Create our TextButtonStyle
-		TextButtonStyle textButtonStyle = new TextButtonStyle();
-		//style.up = new TextureRegionDrawable(upRegion);
-		//style.down = new TextureRegionDrawable(downRegion);
-		textButtonStyle.font = buttonFont;
-		textButtonStyle.fontColor = Color.WHITE;
-		textButtonStyle.overFontColor = Color.YELLOW;
+		// Use the shared TextButtonStyle
+		TextButtonStyle textButtonStyle = styles.getButtonStyle();
 		
 		// Create our button listener
 		buttonListener = new ButtonListener();
@@ -173,7 +169,8 @@ public class GroupSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 		groupTable = new Table();
 		
 		// Create a scroll pane for the list of group buttons
-		stageTable.add(new ScrollPane(groupTable)).expand().fill();
+		groupScrollPane = new ScrollPane(groupTable);
+		stageTable.add(groupScrollPane).expand().fill();
 		stageTable.row();
 
 		if( Platform.Android != gameManager.getEnvironment().getPlatform() &&
@@ -192,13 +189,26 @@ public class GroupSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 		// Clear our table of group buttons
 		groupTable.clear();
 		
+		// Register the groups listed by our catalog that haven't been yet (no
+		// group file is opened, the catalog has everything we display)
+		GroupCatalog catalog = gameManager.getCatalog();
+		for(GroupCatalog.Entry entry : catalog.getGroups()) {
+			if(gameManager.data.groups.getGroup(GroupManager.getFilename(entry.groupId)) == null) {
+				G group = gameManager.data.createGroup(entry.groupId);
+				group.name = entry.name;
+				group.locked = entry.groupId > 0;
+				gameManager.data.groups.registerGroup(group);
+				gameManager.getJournal().apply(group);
+			}
+		}
+
 		// Loop through each group and create a new button
 		Keys<String> groups = gameManager.data.groups.getGroups();
 		for(String groupName : groups) {
 			G group = gameManager.data.groups.getGroup(groupName);
 
 			// Create a button to represent this group
-			Button anButton = new Button(new TextureRegionDrawable(groupRegions.get("group_"+group.groupId)));
+			Button anButton = new Button(groupDrawables.get("group_"+group.groupId));
 			anButton.setName(groupName);
 			anButton.setDisabled(group.locked);
 			anButton.addListener(buttonListener);
@@ -209,7 +219,7 @@ public class GroupSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 		}
 
 		// Add our create new level button
-		Button anButton = new Button(new TextureRegionDrawable(groupRegions.get("group_new")));
+		Button anButton = new Button(groupDrawables.get("group_new"));
 		anButton.setName(GroupManager.getFilename(gameManager.data.groups.getSize()));
 		anButton.setDisabled(false); // TODO: Replace false with lookup to see if group editor is enabled
 		anButton.addListener(buttonListener);
@@ -1,16 +1,11 @@
 package com.cosmicrover.core.screens;
 
-import java.util.HashMap;
-
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -21,7 +16,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton.TextButtonStyle;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.ArrayMap.Keys;
 import com.cosmicrover.core.GameManager;
 import com.cosmicrover.core.GameEnvironment.Platform;
@@ -29,6 +23,8 @@ import com.cosmicrover.core.LevelManager;
 import com.cosmicrover.core.assets.GameData;
 import com.cosmicrover.core.assets.GroupData;
 import com.cosmicrover.core.assets.LevelData;
+import com.cosmicrover.core.ui.utils.AtlasDrawables;
+import com.cosmicrover.core.ui.utils.StyleCache;
 import com.cosmicrover.woolyfarm.assets.WoolyGameData;
 
 public class LevelSelectScreen<L extends LevelData, G extends GroupData<L>> extends AbstractScreen<L,G> {
@@ -44,14 +40,17 @@ public class LevelSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 	private ButtonListener buttonListener = null;
 	private G groupData = null;
 
-	/// Maps region name to AtlasRegion information to texture
-	private HashMap<String, AtlasRegion> levelRegions;
+	/// TextureAtlas used by this screen (part of our asset manifest)
+	private static final String LEVEL_ATLAS = "level_select.pack";
 
-	/// TextureAtlas that can carve up the sprite texture to show the correct texture
-	private TextureAtlas levelTextureAtlas;
+	/// Shared drawables for each region of our level select TextureAtlas
+	private AtlasDrawables levelDrawables;
 
 	public LevelSelectScreen(GameManager<L,G> gameManager, int backScreenId) {
 		super("LevelSelectScreen", GameData.LEVEL_SELECT_SCREEN, gameManager, backScreenId);
+
+		// Declare the TextureAtlas we need loaded before we are shown
+		addAsset(LEVEL_ATLAS, TextureAtlas.class);
 	}
 
 	@Override
@@ -60,12 +59,15 @@ public class LevelSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 		Gdx.gl.glClearColor(0.0f, 0.0f, 0.0f, 1);
 		Gdx.gl10.glClear(GL10.GL_COLOR_BUFFER_BIT);
 		
-		// Handle our Stage2d processing here
-        stage.act(Gdx.graphics.getDeltaTime());
-        stage.draw();
-        
-        // Draw debug lines for table
-        Table.drawDebug(stage);
+		// Handle our Stage2d processing here (also draws table debug lines
+		// while the profiler overlay is shown)
+        renderStage(stage, Gdx.graphics.getDeltaTime());
+	}
+
+	@Override
+	public boolean isAnimating() {
+		// Keep rendering while the buttons are flinging or smooth scrolling
+		return isScrolling(levelScrollPane);
 	}
 
 	@Override
@@ -88,27 +90,36 @@ public class LevelSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 			gameManager.data.groups.registerGroup(groupData);
 		}
 		
+		// Retrieve the shared drawables for our level select TextureAtlas (new drawables
+		// are returned if the atlas was unloaded since we were last shown)
+		AtlasDrawables drawables = gameManager.getDrawables(LEVEL_ATLAS);
+
 		// First time? then create our stage object and other UI elements
 		if(isFirstTime()) {
-			// Create a hash map for looking up texture regions by string name found in SpriteComponent
-			levelRegions = new HashMap<String, AtlasRegion>();
-			levelTextureAtlas = gameManager.getAssetManager().get("level_select.pack");
-			// Create a map of each region available in our sprite TextureAtlas
-			for (AtlasRegion region : levelTextureAtlas.getRegions()) {
-				levelRegions.put(region.name, region);
-			}
+			levelDrawables = drawables;
 
 			// Create our stage objects on first time
 			createStage();
 			
 			// Clear our first time flag
 			clearFirstTime();
+		} else if(drawables != levelDrawables) {
+			// Our atlas was reloaded, recreate our stage with the new drawables
+			stage.dispose();
+			levelDrawables = drawables;
+			createStage();
 		} else {
 			// TODO: Enable existing entities used only for this Screen
 		}
 
 		// Create our table of level buttons to click on
 		createLevelButtons(buttonFont, buttonListener);
+
+		// A level is likely to be played next, open its music track now
+		AbstractScreen<L,G> playScreen = gameManager.data.getScreen(GameData.LEVEL_PLAY_SCREEN);
+		if(playScreen != null) {
+			gameManager.getMusicManager().prepare(playScreen.getMusicFilename());
+		}
 		
 		// Add our Scene2d as an input processor
 		gameManager.getInputMultiplexer().addProcessor(stage);
@@ -139,17 +150,15 @@ public class LevelSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 		
 		// Give stage a chance to dispose itself
 		stage.dispose();
+
+		// Call our parent class implementation last (releases our shared styles)
+		super.dispose();
 	}
 
 	private void createStage() {
-        // Retrieve the font we will use for text messages
-		Texture fontTexture = new Texture(Gdx.files.internal("fonts/font_normal.png"));
-		fontTexture.setFilter(TextureFilter.Linear, TextureFilter.MipMapLinearLinear);
-		TextureRegion fontRegion = new TextureRegion(fontTexture);
-		BitmapFont labelFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		labelFont.setUseIntegerPositions(false);
-		buttonFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		buttonFont.setUseIntegerPositions(false);
+        // Retrieve the shared fonts and styles we will use for text messages
+		StyleCache styles = getStyles();
+		buttonFont = styles.getButtonFont();
 
 		// Create our stage object and buttons
 		stage = new Stage(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true, gameManager.getSpriteBatch());
@@ -164,23 +173,16 @@ public class LevelSelectScreen<L extends LevelData, G extends GroupData<L>> exte
         stage.addActor(background);
         stage.addActor(stageTable);
         
-		// Create our LabelStyle
-		LabelStyle labelStyle = new LabelStyle();
-		labelStyle.font = labelFont;
-		labelStyle.fontColor = Color.CYAN;
+		// Use the shared LabelStyle
+		LabelStyle labelStyle = styles.getLabelStyle();
 
 		// Create and add our Title Label
 		title = new Label("Level Select", labelStyle);
 		stageTable.add(title).center().expandX();
 		stageTable.row();
 
-		// Create our TextButtonStyle
-		TextButtonStyle textButtonStyle = new TextButtonStyle();
-		//style.up = new TextureRegionDrawable(upRegion);
-		//style.down = new TextureRegionDrawable(downRegion);
-		textButtonStyle.font = buttonFont;
-		textButtonStyle.fontColor = Color.WHITE;
-		textButtonStyle.overFontColor = Color.YELLOW;
+		// Use the shared TextButtonStyle
+		TextButtonStyle textButtonStyle = styles.getButtonStyle();
 		
 		// Create our button listener
 		buttonListener = new ButtonListener();
@@ -215,28 +217,28 @@ public class LevelSelectScreen<L extends LevelData, G extends GroupData<L>> exte
 		unlockedButtonStyle.font = buttonFont;
 		unlockedButtonStyle.fontColor = Color.BLACK;
 		unlockedButtonStyle.overFontColor = Color.BLUE;
-		unlockedButtonStyle.disabled = new TextureRegionDrawable(levelRegions.get("level_locked"));
-		unlockedButtonStyle.up = new TextureRegionDrawable(levelRegions.get("level_unlocked_up"));
-		unlockedButtonStyle.down = new TextureRegionDrawable(levelRegions.get("level_unlocked_down"));
-		unlockedButtonStyle.over = new TextureRegionDrawable(levelRegions.get("level_unlocked_over"));
+		unlockedButtonStyle.disabled = levelDrawables.get("level_locked");
+		unlockedButtonStyle.up = levelDrawables.get("level_unlocked_up");
+		unlockedButtonStyle.down = levelDrawables.get("level_unlocked_down");
+		unlockedButtonStyle.over = levelDrawables.get("level_unlocked_over");
 
 		TextButtonStyle completedButtonStyle = new TextButtonStyle();
 		completedButtonStyle.font = buttonFont;
 		completedButtonStyle.fontColor = Color.BLACK;
 		completedButtonStyle.overFontColor = Color.BLUE;
-		completedButtonStyle.disabled = new TextureRegionDrawable(levelRegions.get("level_locked"));
-		completedButtonStyle.up = new TextureRegionDrawable(levelRegions.get("level_completed_up"));
-		completedButtonStyle.down = new TextureRegionDrawable(levelRegions.get("level_completed_down"));
-		completedButtonStyle.over = new TextureRegionDrawable(levelRegions.get("level_completed_over"));
+		completedButtonStyle.disabled = levelDrawables.get("level_locked");
+		completedButtonStyle.up = levelDrawables.get("level_completed_up");
+		completedButtonStyle.down = levelDrawables.get("level_completed_down");
+		completedButtonStyle.over = levelDrawables.get("level_completed_over");
 
 		TextButtonStyle createButtonStyle = new TextButtonStyle();
 		createButtonStyle.font = buttonFont;
 		createButtonStyle.fontColor = Color.BLACK;
 		createButtonStyle.overFontColor = Color.BLUE;
-		createButtonStyle.disabled = new TextureRegionDrawable(levelRegions.get("level_locked"));
-		createButtonStyle.up = new TextureRegionDrawable(levelRegions.get("level_create_up"));
-		createButtonStyle.down = new TextureRegionDrawable(levelRegions.get("level_create_down"));
-		createButtonStyle.over = new TextureRegionDrawable(levelRegions.get("level_create_over"));
+		createButtonStyle.disabled = levelDrawables.get("level_locked");
+		createButtonStyle.up = levelDrawables.get("level_create_up");
+		createButtonStyle.down = levelDrawables.get("level_create_down");
+		createButtonStyle.over = levelDrawables.get("level_create_over");
 		
 		// Clear our table of level buttons
 		levelTable.clear();
@@ -7,10 +7,15 @@ import com.cosmicrover.core.assets.GroupData;
 import com.cosmicrover.core.assets.LevelData;
 
 public abstract class LoadingScreen<L extends LevelData, G extends GroupData<L>> extends AbstractScreen<L,G> {
-	/// The screenId to switch to when Loading screen completes (static to make
-	/// it possible to change without having an address to AbstractLoadingScreen)
+	/// The default screenId to switch to when Loading screen completes (static
+	/// to make it possible to change without having an address to LoadingScreen)
 	private static int nextScreenId = GameData.EXIT_GAME_SCREEN;
 
+	/// The screenId to switch to when this Loading screen completes this time
+	/// (see setNextScreen, uses nextScreenId above when not set)
+	private int screenAfterLoading = GameData.EXIT_GAME_SCREEN;
+	private boolean screenAfterLoadingSet = false;
+
 	/// Constants used internally for delays (in seconds)
 	/// Minimum 
 	private static final float DEFAULT_LAG_DELAY_S = 0.2f;
@@ -61,9 +66,10 @@ public abstract class LoadingScreen<L extends LevelData, G extends GroupData<L>>
 	}
 	
 	/**
-	 * Sets the screenId to use after the Loading screen finishes loading. This
-	 * method is static to make it possible to change without having access to
-	 * the AbstractLoadingScreen objects address.
+	 * Sets the default screenId to use after the Loading screen finishes
+	 * loading. This method is static to make it possible to change without
+	 * having access to the LoadingScreen objects address. It is used during
+	 * boot; later loads should use GameManager.showLoadingScreen instead.
 	 * @param screenId to switch to after data is loaded (defaults to exit)
 	 */
 	public static final void setNextScreenId(int screenId) {
@@ -71,8 +77,21 @@ public abstract class LoadingScreen<L extends LevelData, G extends GroupData<L>>
 		nextScreenId = screenId;
 	}
 
+	/**
+	 * Sets the screenId to switch to the next time this Loading screen
+	 * finishes, overriding the static default for that one time only.
+	 * @param screenId to switch to after data is loaded
+	 */
+	public final void setNextScreen(int screenId) {
+		Gdx.app.debug(getName(), "Setting next screenId="+screenId);
+		screenAfterLoading = screenId;
+		screenAfterLoadingSet = true;
+	}
+
 	@Override
 	public final void render(float delta) {
+		boolean changed = false;
+
 		// Only add to our lag delay accumulator if we are done
 		if(done) {
 			// Add to our accumulator to keep track of loading times
@@ -81,11 +100,24 @@ public abstract class LoadingScreen<L extends LevelData, G extends GroupData<L>>
 			// Do we have a lag delay and are we greater than it now? then switch to the next screen
 			if (lagDelay_s >= 0.0f && lagAccumulator_s > lagDelay_s) {
 				changeScreen();
+				changed = true;
 			}
 		}
 
-		// Call our derived class implementation for rendering
-		handleRender(delta);
+		// Call our derived class implementation for rendering unless we were
+		// just hidden by changing screens (show() clears done if we were
+		// shown again right away)
+		if(!changed || !done) {
+			handleRender(delta);
+		}
+	}
+
+	/**
+	 * Loading screens show asset loading progress, so they are always redrawn.
+	 */
+	@Override
+	public boolean isAnimating() {
+		return true;
 	}
 
 	/**
@@ -102,8 +134,13 @@ public abstract class LoadingScreen<L extends LevelData, G extends GroupData<L>>
 		// Make sure to call reportDone first
 		reportDone();
 		
-		// Switch to the next screen
-		gameManager.setScreen(nextScreenId);
+		// Switch to the next screen (the one requested for this load if any)
+		int screenId = nextScreenId;
+		if(screenAfterLoadingSet) {
+			screenId = screenAfterLoading;
+			screenAfterLoadingSet = false;
+		}
+		gameManager.setScreen(screenId);
 	}
 
 	/**
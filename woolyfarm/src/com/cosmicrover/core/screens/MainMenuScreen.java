@@ -1,13 +1,7 @@
 package com.cosmicrover.core.screens;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL10;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -21,6 +15,7 @@ import com.cosmicrover.core.GameManager;
 import com.cosmicrover.core.assets.GameData;
 import com.cosmicrover.core.assets.GroupData;
 import com.cosmicrover.core.assets.LevelData;
+import com.cosmicrover.core.ui.utils.StyleCache;
 
 public class MainMenuScreen<L extends LevelData, G extends GroupData<L>> extends AbstractScreen<L,G> {
 	/// Scene2d used by this Screen
@@ -48,12 +43,9 @@ public class MainMenuScreen<L extends LevelData, G extends GroupData<L>> extends
 		Gdx.gl.glClearColor(0.0f, 0.0f, 0.3f, 1);
 		Gdx.gl10.glClear(GL10.GL_COLOR_BUFFER_BIT);
 		
-		// Handle our Stage2d processing here
-        stage.act(Gdx.graphics.getDeltaTime());
-        stage.draw();
-        
-        // Draw debug lines for table
-        Table.drawDebug(stage);
+		// Handle our Stage2d processing here (also draws table debug lines
+		// while the profiler overlay is shown)
+        renderStage(stage, Gdx.graphics.getDeltaTime());
 	}
 
 	@Override
@@ -78,32 +70,19 @@ public class MainMenuScreen<L extends LevelData, G extends GroupData<L>> extends
 	        stage.addActor(background);
 	        stage.addActor(table);
 	        
-	        // Retrieve the font we will use for text messages
-			Texture fontTexture = new Texture(Gdx.files.internal("fonts/font_normal.png"));
-			fontTexture.setFilter(TextureFilter.Linear, TextureFilter.MipMapLinearLinear);
-			TextureRegion fontRegion = new TextureRegion(fontTexture);
-			BitmapFont labelFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-			BitmapFont buttonFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-			buttonFont.setUseIntegerPositions(false);
-			BitmapFontData fontData = new BitmapFontData();
-
-			// Create our LabelStyle
-			LabelStyle labelStyle = new LabelStyle();
-			labelStyle.font = labelFont;
-			labelStyle.fontColor = Color.CYAN;
+	        // Retrieve the shared fonts and styles we will use for text messages
+			StyleCache styles = getStyles();
+
+			// Use the shared LabelStyle
+			LabelStyle labelStyle = styles.getLabelStyle();
 
 			// Create and add our Title Label
 			titleLabel = new Label(titleString, labelStyle);
 			table.center().add(titleLabel).expandX();
 			table.row();
 
-			// Create our TextButtonStyle
-			TextButtonStyle buttonStyle = new TextButtonStyle();
-			//style.up = new TextureRegionDrawable(upRegion);
-			//style.down = new TextureRegionDrawable(downRegion);
-			buttonStyle.font = buttonFont;
-			buttonStyle.fontColor = Color.WHITE;
-			buttonStyle.overFontColor = Color.YELLOW;
+			// Use the shared TextButtonStyle
+			TextButtonStyle buttonStyle = styles.getButtonStyle();
 			
 			// Create our button listener
 			ButtonListener buttonListener = new ButtonListener();
@@ -158,6 +137,9 @@ public class MainMenuScreen<L extends LevelData, G extends GroupData<L>> extends
 		
 		// Give stage a chance to dispose itself
 		stage.dispose();
+
+		// Call our parent class implementation last (releases our shared styles)
+		super.dispose();
 	}
 	
 	/**
@@ -0,0 +1,54 @@
+package com.cosmicrover.core.ui.utils;
+
+/**
+ * AnimationClock is the single animation timeline shared by every animated
+ * drawable and actor. It is advanced once per frame by the GameManager, so
+ * animated views only need to store a phase offset and can compute their
+ * current frame from getTime() + phase without any per-instance state.
+ */
+public class AnimationClock {
+	/// Number of entries in the per-cell phase table (must be a power of two)
+	private static final int PHASE_TABLE_SIZE = 256;
+
+	/// Largest phase offset (in seconds) found in the phase table
+	private static final float MAX_PHASE_S = 10.0f;
+
+	/// Phase offsets spread evenly over [0, MAX_PHASE_S) in a scattered order
+	private static final float[] PHASES = new float[PHASE_TABLE_SIZE];
+	static {
+		// Golden ratio steps give a well scattered and repeatable sequence
+		for(int i=0; i<PHASE_TABLE_SIZE; i++) {
+			float fraction = (i * 0.618034f) % 1.0f;
+			PHASES[i] = fraction * MAX_PHASE_S;
+		}
+	}
+
+	/// Animation time (in seconds) since the clock was created
+	private float time = 0.0f;
+
+	/**
+	 * Advances the clock; called once per frame by the GameManager.
+	 * @param delta time in seconds since the last frame
+	 */
+	public void update(float delta) {
+		time += delta;
+	}
+
+	/**
+	 * @return animation time in seconds
+	 */
+	public float getTime() {
+		return time;
+	}
+
+	/**
+	 * Returns a repeatable phase offset for the grid cell provided so that
+	 * neighbouring cells showing the same animation don't move in lock step.
+	 * @param row of the cell
+	 * @param col of the cell
+	 * @return phase offset in seconds to add to getTime()
+	 */
+	public static float getPhase(int row, int col) {
+		return PHASES[(row * 31 + col * 17) & (PHASE_TABLE_SIZE - 1)];
+	}
+}
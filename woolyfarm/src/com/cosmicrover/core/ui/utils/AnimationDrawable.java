@@ -1,40 +1,62 @@
 package com.cosmicrover.core.ui.utils;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 
+/**
+ * AnimationDrawable draws the frame of an Animation found at the time of the
+ * shared AnimationClock plus a fixed phase offset. It keeps no time of its own,
+ * so any number of instances can share one clock and one Animation.
+ */
 public class AnimationDrawable extends TextureRegionDrawable {
 	private Animation animation;
-	private float stateTime;
+	private AnimationClock clock;
+	private float phase;
 
-	/** Creates an uninitialized AnimationDrawable. The animation must be set before use. */
+	/** Creates an uninitialized AnimationDrawable. The animation and clock must be set before use. */
 	public AnimationDrawable() {
 	}
 
-	public AnimationDrawable(Animation animation) {
+	public AnimationDrawable(Animation animation, AnimationClock clock) {
+		this(animation, clock, 0.0f);
+	}
+
+	public AnimationDrawable(Animation animation, AnimationClock clock, float phase) {
+		this.clock = clock;
+		this.phase = phase;
 		setAnimation(animation);
 	}
 
 	public AnimationDrawable(AnimationDrawable drawable) {
 		super(drawable);
+		this.clock = drawable.clock;
+		this.phase = drawable.phase;
 		setAnimation(drawable.animation);
 	}
 
     public void draw(SpriteBatch batch, float x, float y, float width, float height) {
-    	stateTime += Gdx.graphics.getDeltaTime();
-    	setRegion(animation.getKeyFrame(stateTime));
+    	setRegion(getKeyFrame());
     	super.draw(batch, x, y, width, height);
 	}
 
 	public void setAnimation(Animation animation) {
 		this.animation = animation;
-		setRegion(animation.getKeyFrame(stateTime));
+		setRegion(getKeyFrame());
 	}
-	
-	public void setRandomStart() {
-		stateTime = (float)(Math.random()*10.0f);
+
+	public void setClock(AnimationClock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Sets the phase offset (in seconds) added to the clock time, such as the
+	 * value returned by AnimationClock.getPhase(row, col).
+	 * @param phase offset in seconds
+	 */
+	public void setPhase(float phase) {
+		this.phase = phase;
 	}
 
 	public void setPlayMode(int playMode) {
@@ -44,4 +66,15 @@ public class AnimationDrawable extends TextureRegionDrawable {
 	public Animation getAnimation() {
 		return animation;
 	}
+
+	/**
+	 * @return the frame of our animation for the current clock time and phase
+	 */
+	private TextureRegion getKeyFrame() {
+		float time = phase;
+		if(clock != null) {
+			time += clock.getTime();
+		}
+		return animation.getKeyFrame(time);
+	}
 }
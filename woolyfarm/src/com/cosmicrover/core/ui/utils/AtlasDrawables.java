@@ -0,0 +1,74 @@
+package com.cosmicrover.core.ui.utils;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * AtlasDrawables creates one TextureRegionDrawable for each region name of a
+ * TextureAtlas when it is constructed. The drawables are shared by every
+ * screen using the atlas, so callers must not modify them.
+ */
+public class AtlasDrawables {
+	/// TextureAtlas the drawables were created from
+	private final TextureAtlas atlas;
+
+	/// Maps region name to the drawable for the first region with that name
+	private final ObjectMap<String, TextureRegionDrawable> drawables;
+
+	/// Drawable lookup tables indexed by enum ordinal (one per enum class)
+	private final ObjectMap<Class<?>, TextureRegionDrawable[]> tables;
+
+	public AtlasDrawables(TextureAtlas atlas) {
+		this.atlas = atlas;
+		this.drawables = new ObjectMap<String, TextureRegionDrawable>();
+		this.tables = new ObjectMap<Class<?>, TextureRegionDrawable[]>();
+
+		// Create a drawable for each region name available in our TextureAtlas
+		for(AtlasRegion region : atlas.getRegions()) {
+			if(!drawables.containsKey(region.name)) {
+				drawables.put(region.name, new TextureRegionDrawable(region));
+			}
+		}
+	}
+
+	/**
+	 * @return the TextureAtlas the drawables were created from
+	 */
+	public TextureAtlas getAtlas() {
+		return atlas;
+	}
+
+	/**
+	 * Returns the drawable for the region name provided.
+	 * @param name of the region
+	 * @return drawable or null if the region name can't be found
+	 */
+	public TextureRegionDrawable get(String name) {
+		return drawables.get(name);
+	}
+
+	/**
+	 * Returns a table of drawables indexed by the ordinal of each enum value
+	 * provided, using the toString() value of each enum as the region name.
+	 * The table is created the first time it is requested for an enum class.
+	 * @param values of the enum class (e.g. Sprites.values())
+	 * @return drawable table indexed by ordinal (null for missing regions)
+	 */
+	public <E extends Enum<E>> TextureRegionDrawable[] getTable(E[] values) {
+		TextureRegionDrawable[] table = null;
+		if(values.length > 0) {
+			Class<?> type = values[0].getDeclaringClass();
+			table = tables.get(type);
+			if(table == null) {
+				table = new TextureRegionDrawable[values.length];
+				for(E value : values) {
+					table[value.ordinal()] = drawables.get(value.toString());
+				}
+				tables.put(type, table);
+			}
+		}
+		return table;
+	}
+}
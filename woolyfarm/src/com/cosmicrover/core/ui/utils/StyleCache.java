@@ -0,0 +1,154 @@
+package com.cosmicrover.core.ui.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.TextureLoader.TextureParameter;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton.TextButtonStyle;
+
+/**
+ * StyleCache provides the fonts and styles shared by every screen. The font
+ * texture is loaded through the AssetManager and the font file is parsed once
+ * when the first screen calls acquire(). Everything is released again when
+ * the last screen calls release(). Screens must not modify the shared fonts
+ * or styles; copy a style first if a screen needs a variation of it.
+ */
+public class StyleCache {
+	/// Font texture and font description used by every screen
+	public static final String FONT_TEXTURE = "fonts/font_normal.png";
+	public static final String FONT_FILE = "fonts/normal.fnt";
+
+	private final AssetManager assetManager;
+
+	/// Number of screens currently using our fonts and styles
+	private int referenceCount = 0;
+
+	private BitmapFont labelFont = null;
+	private BitmapFont buttonFont = null;
+	private LabelStyle labelStyle = null;
+	private TextButtonStyle buttonStyle = null;
+
+	public StyleCache(AssetManager assetManager) {
+		this.assetManager = assetManager;
+	}
+
+	/**
+	 * Queues the font texture with our AssetManager so a loading screen can
+	 * load it before the first screen calls acquire().
+	 */
+	public void queueAssets() {
+		if(!assetManager.isLoaded(FONT_TEXTURE, Texture.class)) {
+			TextureParameter parameter = new TextureParameter();
+			parameter.minFilter = TextureFilter.Linear;
+			parameter.magFilter = TextureFilter.MipMapLinearLinear;
+			assetManager.load(FONT_TEXTURE, Texture.class, parameter);
+		}
+	}
+
+	/**
+	 * Adds a reference to our fonts and styles, creating them if this is the
+	 * first reference. Each call must be matched by a call to release().
+	 */
+	public void acquire() {
+		if(referenceCount == 0) {
+			// Make sure our font texture is available (normally already loaded)
+			queueAssets();
+			if(!assetManager.isLoaded(FONT_TEXTURE, Texture.class)) {
+				Gdx.app.debug("StyleCache", "Font texture not preloaded, loading now");
+				assetManager.finishLoading();
+			}
+			createStyles(assetManager.get(FONT_TEXTURE, Texture.class));
+		}
+		referenceCount++;
+	}
+
+	/**
+	 * Removes a reference added by acquire(). The fonts and styles are disposed
+	 * and the font texture unloaded when the last reference is removed.
+	 */
+	public void release() {
+		if(referenceCount > 0) {
+			referenceCount--;
+			if(referenceCount == 0) {
+				disposeStyles();
+			}
+		} else {
+			Gdx.app.error("StyleCache", "release() called without a matching acquire()");
+		}
+	}
+
+	/**
+	 * @return the font used for labels
+	 */
+	public BitmapFont getLabelFont() {
+		return labelFont;
+	}
+
+	/**
+	 * @return the font used for buttons and text fields (non integer positions)
+	 */
+	public BitmapFont getButtonFont() {
+		return buttonFont;
+	}
+
+	/**
+	 * @return the LabelStyle used for titles and labels
+	 */
+	public LabelStyle getLabelStyle() {
+		return labelStyle;
+	}
+
+	/**
+	 * @return the TextButtonStyle used for plain text buttons
+	 */
+	public TextButtonStyle getButtonStyle() {
+		return buttonStyle;
+	}
+
+	/**
+	 * Disposes everything regardless of the reference count (used when the
+	 * game exits).
+	 */
+	public void dispose() {
+		if(referenceCount > 0) {
+			referenceCount = 0;
+			disposeStyles();
+		}
+	}
+
+	private void createStyles(Texture fontTexture) {
+		// Parse the font file once and share it between both fonts
+		TextureRegion fontRegion = new TextureRegion(fontTexture);
+		BitmapFontData fontData = new BitmapFontData(Gdx.files.internal(FONT_FILE), false);
+		labelFont = new BitmapFont(fontData, fontRegion, true);
+		buttonFont = new BitmapFont(fontData, fontRegion, false);
+
+		// Create our LabelStyle
+		labelStyle = new LabelStyle();
+		labelStyle.font = labelFont;
+		labelStyle.fontColor = Color.CYAN;
+
+		// Create our TextButtonStyle
+		buttonStyle = new TextButtonStyle();
+		buttonStyle.font = buttonFont;
+		buttonStyle.fontColor = Color.WHITE;
+		buttonStyle.overFontColor = Color.YELLOW;
+	}
+
+	private void disposeStyles() {
+		// Our fonts don't own the texture, the AssetManager does
+		labelFont.dispose();
+		buttonFont.dispose();
+		labelFont = null;
+		buttonFont = null;
+		labelStyle = null;
+		buttonStyle = null;
+		assetManager.unload(FONT_TEXTURE);
+	}
+}
@@ -3,9 +3,13 @@ package com.cosmicrover.woolyfarm;
 import com.badlogic.gdx.Game;
 import com.cosmicrover.core.GameEnvironment;
 import com.cosmicrover.core.GameManager;
+import com.cosmicrover.woolyfarm.assets.GeneratedSerializers;
+import com.cosmicrover.woolyfarm.assets.LevelBinary;
 import com.cosmicrover.woolyfarm.assets.WoolyGameData;
 import com.cosmicrover.woolyfarm.assets.WoolyGroupData;
+import com.cosmicrover.woolyfarm.assets.WoolyLevelBody;
 import com.cosmicrover.woolyfarm.assets.WoolyLevelData;
+import com.cosmicrover.woolyfarm.assets.loaders.LevelBinaryLoader;
 
 public class WoolyFarmGame extends Game {
 	/// Our persistence service class
@@ -22,11 +26,28 @@ public class WoolyFarmGame extends Game {
 		// @TODO: Add detection of game environment information
 		// gameManager.getEnvironment().setJoysticks(joystickCount);
 
-		// Step 2: Initialize the game data
+		// Step 2: Initialize the game data (using the generated serializers
+		// of our data classes if they have been generated)
+		GeneratedSerializers.register();
 		gameManager.initData(new WoolyGameData("wollyfarm.dat"));
+
+		// Load binary level files (.lbf or group packs) next to the JSON level files (.ldf)
+		gameManager.getAssetManager().setLoader(WoolyLevelData.class, LevelBinary.LEVEL_EXTENSION, new LevelBinaryLoader(gameManager));
+
+		// Bound the memory used by the maps of the levels played so far
+		gameManager.getLevelCache().setLevelBody(new WoolyLevelBody());
 		
-		// Step 3: Set our first screen object and return to caller
-		setScreen(gameManager.data.getInitialScreen());
+		// Step 3: Only render frames when something changes to save battery
+		gameManager.setOnDemandRendering(true);
+
+		// Step 4: Set our first screen object (queuing its assets) and return to caller
+		gameManager.setScreen(gameManager.data.getInitialScreen());
+	}
+
+	@Override
+	public void render() {
+		// Let our GameManager advance the shared state and render the screen
+		gameManager.render();
 	}
 
 	@Override
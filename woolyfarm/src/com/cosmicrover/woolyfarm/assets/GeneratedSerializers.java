@@ -0,0 +1,13 @@
+package com.cosmicrover.woolyfarm.assets;
+
+/**
+ * GeneratedSerializers registers the serializers generated for the game data
+ * classes with DataSerializers. This file is overwritten by the desktop
+ * SerializerGenerator; until it is run nothing is registered and the data
+ * classes are read and written with Json reflection.
+ */
+public class GeneratedSerializers {
+	public static void register() {
+		// Run SerializerGenerator to generate and register the serializers
+	}
+}
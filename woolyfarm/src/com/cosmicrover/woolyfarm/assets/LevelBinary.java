@@ -0,0 +1,182 @@
+package com.cosmicrover.woolyfarm.assets;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.cosmicrover.core.LevelManager;
+import com.cosmicrover.woolyfarm.assets.MapData.Sprites;
+
+/**
+ * LevelBinary encodes the original MapData of a level in a compact, versioned
+ * binary format (.lbf) used in place of the JSON level files (.ldf). Each
+ * layer (ground, horizontal fences, vertical fences and animals) is stored as
+ * its dimensions followed by a code for every Sprites value packed into
+ * BITS_PER_SPRITE bits (0 for an empty cell, otherwise the ordinal plus 1).
+ * 
+ * Layout (big endian):
+ *   int    MAGIC
+ *   byte   VERSION
+ *   byte   bits per sprite
+ *   UTF    level name
+ *   short  rows, cols, numFences, numDogs
+ *   layer  ground, horizontal, vertical, animals
+ * where each layer is a short row count, a short column count and the packed
+ * codes (row by row, padded to a whole byte).
+ */
+public class LevelBinary {
+	/// File extension for binary level files
+	public static final String LEVEL_EXTENSION = ".lbf";
+
+	/// Identifies a binary level file ("WFLB")
+	private static final int MAGIC = 0x57464C42;
+
+	/// Version of the layout written by encode
+	private static final byte VERSION = 2;
+
+	/// Sprites values indexed by ordinal
+	private static final Sprites[] SPRITES = Sprites.values();
+
+	/// Number of bits needed to store any sprite code (0 to SPRITES.length)
+	private static final int BITS_PER_SPRITE = 32 - Integer.numberOfLeadingZeros(SPRITES.length);
+
+	/// Name of the level decoded (may be null)
+	public String name;
+
+	/// Original map of the level decoded
+	public MapData map;
+
+	/**
+	 * Returns the binary level filename for the JSON level filename provided.
+	 * @param filename of a JSON level file (see LevelManager.getFilename)
+	 * @return the matching binary level filename
+	 */
+	public static String getFilename(String filename) {
+		String result = filename;
+		if(filename.endsWith(LevelManager.LEVEL_EXTENSION)) {
+			result = filename.substring(0, filename.length() - LevelManager.LEVEL_EXTENSION.length()) + LEVEL_EXTENSION;
+		}
+		return result;
+	}
+
+	/**
+	 * Encodes the level name and map provided.
+	 * @param name of the level (may be null)
+	 * @param map to encode
+	 * @return the encoded level
+	 */
+	public static byte[] encode(String name, MapData map) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		try {
+			// Write our header
+			output.writeInt(MAGIC);
+			output.writeByte(VERSION);
+			output.writeByte(BITS_PER_SPRITE);
+			output.writeUTF(name != null ? name : "");
+			output.writeShort(map.rows);
+			output.writeShort(map.cols);
+			output.writeShort(map.numFences);
+			output.writeShort(map.numDogs);
+
+			// Write each layer of our map
+			writeLayer(output, map.ground);
+			writeLayer(output, map.horizontal);
+			writeLayer(output, map.vertical);
+			writeLayer(output, map.animals);
+			output.close();
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Unable to encode level " + name, e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes a level previously encoded by encode().
+	 * @param bytes of the encoded level
+	 * @return the decoded level
+	 */
+	public static LevelBinary decode(byte[] bytes) {
+		LevelBinary result = new LevelBinary();
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+		try {
+			// Check our header
+			if(input.readInt() != MAGIC) {
+				throw new GdxRuntimeException("Not a binary level file");
+			}
+			int version = input.readByte();
+			int bitsPerSprite = input.readByte();
+			if(version != VERSION || bitsPerSprite != BITS_PER_SPRITE) {
+				throw new GdxRuntimeException("Unsupported binary level version " + version + " (" + bitsPerSprite + " bits)");
+			}
+			String name = input.readUTF();
+			result.name = name.length() > 0 ? name : null;
+
+			// Read each layer of our map
+			MapData map = new MapData();
+			map.rows = input.readShort();
+			map.cols = input.readShort();
+			map.numFences = input.readShort();
+			map.numDogs = input.readShort();
+			map.ground = readLayer(input);
+			map.horizontal = readLayer(input);
+			map.vertical = readLayer(input);
+			map.animals = readLayer(input);
+			result.map = map;
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Unable to decode level", e);
+		}
+		return result;
+	}
+
+	private static void writeLayer(DataOutputStream output, Sprites[][] layer) throws IOException {
+		int rows = layer != null ? layer.length : 0;
+		int cols = rows > 0 ? layer[0].length : 0;
+		output.writeShort(rows);
+		output.writeShort(cols);
+
+		// Pack the code of each sprite (most significant bits first)
+		int bits = 0;
+		int bitCount = 0;
+		for(int row=0; row<rows; row++) {
+			for(int col=0; col<cols; col++) {
+				Sprites sprite = layer[row][col];
+				bits = (bits << BITS_PER_SPRITE) | (sprite != null ? sprite.ordinal() + 1 : 0);
+				bitCount += BITS_PER_SPRITE;
+				while(bitCount >= 8) {
+					bitCount -= 8;
+					output.writeByte(bits >>> bitCount);
+				}
+			}
+		}
+		if(bitCount > 0) {
+			output.writeByte(bits << (8 - bitCount));
+		}
+	}
+
+	private static Sprites[][] readLayer(DataInputStream input) throws IOException {
+		int rows = input.readShort();
+		int cols = input.readShort();
+		Sprites[][] layer = new Sprites[rows][cols];
+
+		// Unpack the code of each sprite
+		int mask = (1 << BITS_PER_SPRITE) - 1;
+		int bits = 0;
+		int bitCount = 0;
+		for(int row=0; row<rows; row++) {
+			for(int col=0; col<cols; col++) {
+				while(bitCount < BITS_PER_SPRITE) {
+					bits = (bits << 8) | input.readUnsignedByte();
+					bitCount += 8;
+				}
+				bitCount -= BITS_PER_SPRITE;
+				int code = (bits >>> bitCount) & mask;
+				layer[row][col] = code > 0 ? SPRITES[code - 1] : null;
+			}
+		}
+		return layer;
+	}
+}
@@ -0,0 +1,37 @@
+package com.cosmicrover.woolyfarm.assets;
+
+import com.cosmicrover.core.LevelCache;
+
+/**
+ * WoolyLevelBody estimates and releases the original and current MapData of
+ * a level for the LevelCache.
+ */
+public class WoolyLevelBody implements LevelCache.LevelBody<WoolyLevelData> {
+	/// Layers of each MapData (ground, horizontal, vertical and animals)
+	private static final int MAP_LAYERS = 4;
+
+	/// Size of each Sprites reference and of each row array header
+	private static final int REFERENCE_BYTES = 4;
+	private static final int ARRAY_BYTES = 16;
+
+	@Override
+	public int getSize(WoolyLevelData levelData) {
+		return getSize(levelData.original) + getSize(levelData.current);
+	}
+
+	@Override
+	public void release(WoolyLevelData levelData) {
+		levelData.original = null;
+		levelData.current = null;
+	}
+
+	private static int getSize(MapData map) {
+		int result = 0;
+		if(map != null) {
+			// Fence layers have one more row or column than the map itself
+			int rows = map.rows + 1;
+			result = MAP_LAYERS * rows * (ARRAY_BYTES + (map.cols + 1) * REFERENCE_BYTES);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,88 @@
+package com.cosmicrover.woolyfarm.assets.loaders;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.cosmicrover.core.GameManager;
+import com.cosmicrover.core.assets.loaders.JsonDataLoader;
+import com.cosmicrover.woolyfarm.assets.LevelBinary;
+import com.cosmicrover.woolyfarm.assets.WoolyLevelData;
+
+/**
+ * LevelBinaryLoader loads binary level files (see LevelBinary) into the
+ * WoolyLevelData provided by the JsonDataLoader parameters, so a level can be
+ * loaded from either format with the same parameters. A level without its own
+ * binary file is read from the pack file of its group (see GroupPack). A
+ * binary file in local storage (saved by the level editor) takes precedence
+ * over the shipped one. The file is read and decoded on the loader thread;
+ * only the assignment of the decoded map happens on the rendering thread.
+ */
+public class LevelBinaryLoader extends AsynchronousAssetLoader<WoolyLevelData, JsonDataLoader.Parameters<WoolyLevelData>> {
+	/// Provides the group pack files
+	private final GameManager<?,?> gameManager;
+
+	/// Level decoded by loadAsync, waiting for loadSync
+	private LevelBinary decoded = null;
+
+	public LevelBinaryLoader(GameManager<?,?> gameManager) {
+		super(new FileHandleResolver() {
+			@Override
+			public FileHandle resolve(String fileName) {
+				return LevelBinaryLoader.resolveLevel(fileName);
+			}
+		});
+		this.gameManager = gameManager;
+	}
+
+	/**
+	 * Returns the binary level file provided from local storage if it was
+	 * saved there, otherwise the shipped (internal) one.
+	 * @param fileName of the binary level file
+	 * @return the file to read (may not exist)
+	 */
+	public static FileHandle resolveLevel(String fileName) {
+		FileHandle result = null;
+		if(Gdx.files.isLocalStorageAvailable() && Gdx.files.local(fileName).exists()) {
+			result = Gdx.files.local(fileName);
+		} else {
+			result = Gdx.files.internal(fileName);
+		}
+		return result;
+	}
+
+	@Override
+	public void loadAsync(AssetManager manager, String fileName, JsonDataLoader.Parameters<WoolyLevelData> parameter) {
+		// Read the level from its own file if present, otherwise from its group pack
+		FileHandle file = resolve(fileName);
+		byte[] bytes;
+		if(file.exists()) {
+			bytes = file.readBytes();
+		} else {
+			bytes = gameManager.getGroupPack(fileName).read(parameter.data.levelId);
+		}
+		decoded = LevelBinary.decode(bytes);
+	}
+
+	@Override
+	public WoolyLevelData loadSync(AssetManager manager, String fileName, JsonDataLoader.Parameters<WoolyLevelData> parameter) {
+		WoolyLevelData levelData = parameter.data;
+		if(decoded.name != null) {
+			levelData.name = decoded.name;
+		}
+		levelData.original = decoded.map;
+		levelData.resetLevel();
+		levelData.loaded = true;
+		decoded = null;
+		return levelData;
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Array<AssetDescriptor> getDependencies(String fileName, JsonDataLoader.Parameters<WoolyLevelData> parameter) {
+		return null;
+	}
+}
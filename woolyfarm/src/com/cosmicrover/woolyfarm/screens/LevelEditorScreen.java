@@ -1,12 +1,9 @@
 package com.cosmicrover.woolyfarm.screens;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -18,13 +15,21 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextField;
 import com.badlogic.gdx.scenes.scene2d.ui.TextField.TextFieldListener;
 import com.badlogic.gdx.scenes.scene2d.ui.TextField.TextFieldStyle;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Array;
 import com.cosmicrover.core.GameManager;
+import com.cosmicrover.core.GroupCatalog;
+import com.cosmicrover.core.GroupPack;
+import com.cosmicrover.core.LevelManager;
+import com.cosmicrover.core.SaveService;
 import com.cosmicrover.core.GameEnvironment.Platform;
 import com.cosmicrover.core.assets.GameData;
-import com.cosmicrover.core.assets.loaders.JsonDataLoader;
+import com.cosmicrover.core.ui.utils.StyleCache;
 import com.cosmicrover.woolyfarm.assets.MapData.Sprites;
+import com.cosmicrover.woolyfarm.assets.LevelBinary;
 import com.cosmicrover.woolyfarm.assets.WoolyGroupData;
 import com.cosmicrover.woolyfarm.assets.WoolyLevelData;
+import com.cosmicrover.woolyfarm.assets.loaders.LevelBinaryLoader;
+import com.cosmicrover.woolyfarm.ui.FarmMapActor.MapEdge;
 
 public class LevelEditorScreen extends LevelScreen<WoolyGroupData> {
 	protected Label fencesLabel = null;
@@ -37,40 +42,31 @@ public class LevelEditorScreen extends LevelScreen<WoolyGroupData> {
 	}
 
 	@Override
-	protected Music createMusic() {
-		// Retrieve our level editor music track
-		return Gdx.audio.newMusic(Gdx.files.internal("music/level_editor.mp3"));
+	public String getMusicFilename() {
+		// Our level editor music track
+		return "music/level_editor.mp3";
 	}
 	
 	@Override
 	protected void createInfoBar() {
         // Create our information bar starting by gathering texture regions for each icon in our information bar
-        TextureRegionDrawable fencesIcon = new TextureRegionDrawable(spriteRegions.get("fences_icon"));
-        TextureRegionDrawable dogsIcon = new TextureRegionDrawable(spriteRegions.get("dogs_icon"));
-        TextureRegionDrawable backIcon = new TextureRegionDrawable(spriteRegions.get("level_select_icon"));
-        //TextureRegionDrawable nextIcon = new TextureRegionDrawable(spriteRegions.get("next_icon"));
-        TextureRegionDrawable resetIcon = new TextureRegionDrawable(spriteRegions.get("restart_icon"));
-        TextureRegionDrawable cursorIcon = new TextureRegionDrawable(spriteRegions.get("text_cursor_icon"));
-        TextureRegionDrawable saveIcon = new TextureRegionDrawable(spriteRegions.get("save_icon"));
+        TextureRegionDrawable fencesIcon = spriteDrawables.get("fences_icon");
+        TextureRegionDrawable dogsIcon = spriteDrawables.get("dogs_icon");
+        TextureRegionDrawable backIcon = spriteDrawables.get("level_select_icon");
+        //TextureRegionDrawable nextIcon = spriteDrawables.get("next_icon");
+        TextureRegionDrawable resetIcon = spriteDrawables.get("restart_icon");
+        TextureRegionDrawable cursorIcon = spriteDrawables.get("text_cursor_icon");
+        TextureRegionDrawable saveIcon = spriteDrawables.get("save_icon");
 
-        // Retrieve the font we will use for text messages
-		Texture fontTexture = new Texture(Gdx.files.internal("fonts/font_normal.png"));
-		fontTexture.setFilter(TextureFilter.Linear, TextureFilter.MipMapLinearLinear);
-		TextureRegion fontRegion = new TextureRegion(fontTexture);
-		BitmapFont labelFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		BitmapFont buttonFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		buttonFont.setUseIntegerPositions(false);
+        // Retrieve the shared fonts and styles we will use for text messages
+		StyleCache styles = getStyles();
+		BitmapFont buttonFont = styles.getButtonFont();
 
-		// Create our LabelStyle
-		LabelStyle labelStyle = new LabelStyle();
-		labelStyle.font = labelFont;
-		labelStyle.fontColor = Color.CYAN;
+		// Use the shared LabelStyle
+		LabelStyle labelStyle = styles.getLabelStyle();
 
-		// Create our TextButtonStyle
-		TextButtonStyle buttonStyle = new TextButtonStyle();
-		buttonStyle.font = buttonFont;
-		buttonStyle.fontColor = Color.WHITE;
-		buttonStyle.overFontColor = Color.YELLOW;
+		// Use the shared TextButtonStyle
+		TextButtonStyle buttonStyle = styles.getButtonStyle();
 		
 		// Add back button on left (for non mobile platforms)
 		Table leftTable = new Table();
@@ -235,11 +231,14 @@ public class LevelEditorScreen extends LevelScreen<WoolyGroupData> {
 			// Take the current level state and make it the original level state
 			levelData.saveAsOriginal();
 			
-			// Save the level state to a file
-			JsonDataLoader.save(levelData);
+			// Save the level state to a file (and its compact binary copy)
+			final SaveService saveService = gameManager.getSaveService();
+			saveService.save(levelData.getFilename(), levelData);
+			saveService.write(LevelBinary.getFilename(levelData.getFilename()),
+				LevelBinary.encode(levelData.name, levelData.original), false);
 
 			// Get the currently selected GroupData object
-			WoolyGroupData groupData = gameManager.data.getCurrentGroup();
+			final WoolyGroupData groupData = gameManager.data.getCurrentGroup();
 			
 			// If this is the first level, make sure its unlocked when groupData is saved
 			if(levelData.levelId == 0) {
@@ -247,10 +246,50 @@ public class LevelEditorScreen extends LevelScreen<WoolyGroupData> {
 			}
 
 			// Save the group data file
-			JsonDataLoader.save(groupData);
+			saveService.save(groupData.getFilename(), groupData);
+
+			// Hash the level files once they have been written (on the write
+			// thread) then update the entry of the group in our group catalog
+			final int groupId = groupData.groupId;
+			final int levels = groupData.levels.getSize();
+			saveService.whenWritten(new Runnable() {
+				@Override
+				public void run() {
+					final String hash = hashLevels(groupId, levels);
+					Gdx.app.postRunnable(new Runnable() {
+						@Override
+						public void run() {
+							gameManager.getCatalog().update(groupData, hash, saveService);
+						}
+					});
+				}
+			});
 
 			// Switch back to the previous screen
 			gameManager.setScreen(getBackScreenId());
 		}
 	}
+
+	/**
+	 * Hashes the binary levels of a group the way LevelPackager does (see
+	 * GroupCatalog.hash), reading each level from where LevelBinaryLoader
+	 * would. This reads every level, so it runs on the write thread.
+	 * @param groupId of the group
+	 * @param levels number of levels in the group
+	 * @return the content hash of the group
+	 */
+	private String hashLevels(int groupId, int levels) {
+		Array<byte[]> levelBytes = new Array<byte[]>();
+		for(int levelId=0; levelId<levels; levelId++) {
+			String filename = LevelBinary.getFilename(LevelManager.getFilename(groupId, levelId));
+			FileHandle file = LevelBinaryLoader.resolveLevel(filename);
+			GroupPack groupPack = gameManager.getGroupPack(filename);
+			if(file.exists()) {
+				levelBytes.add(file.readBytes());
+			} else if(groupPack != null && groupPack.contains(levelId)) {
+				levelBytes.add(groupPack.read(levelId));
+			}
+		}
+		return GroupCatalog.hash(levelBytes);
+	}
 }
@@ -1,16 +1,7 @@
 package com.cosmicrover.woolyfarm.screens;
 
-import java.util.HashMap;
-
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL10;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -21,9 +12,11 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton.TextButtonStyle;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.cosmicrover.core.GameManager;
+import com.cosmicrover.core.ProgressJournal;
 import com.cosmicrover.core.assets.GameData;
 import com.cosmicrover.core.assets.GroupData;
 import com.cosmicrover.core.screens.AbstractScreen;
+import com.cosmicrover.core.ui.utils.StyleCache;
 import com.cosmicrover.woolyfarm.assets.WoolyLevelData;
 
 public class LevelEndScreen<G extends GroupData<WoolyLevelData>> extends AbstractScreen<WoolyLevelData,G> {
@@ -36,11 +29,6 @@ public class LevelEndScreen<G extends GroupData<WoolyLevelData>> extends Abstrac
 	private TextButton backButton = null;
 	private WoolyLevelData levelData = null;
 
-	/// Maps region name to AtlasRegion information to texture
-	private HashMap<String, AtlasRegion> spriteRegions;
-
-	/// TextureAtlas that can carve up the sprite texture to show the correct texture
-	private TextureAtlas spriteTextureAtlas;
 	
 	public LevelEndScreen(GameManager<WoolyLevelData,G> gameManager, int backScreenId) {
 		super("LevelEndScreen", GameData.LEVEL_END_SCREEN, gameManager, backScreenId);
@@ -55,12 +43,9 @@ public class LevelEndScreen<G extends GroupData<WoolyLevelData>> extends Abstrac
 		Gdx.gl.glClearColor(0.0f, 0.0f, 0.0f, 1);
 		Gdx.gl10.glClear(GL10.GL_COLOR_BUFFER_BIT);
 		
-		// Handle our Stage2d processing here
-        stage.act(Gdx.graphics.getDeltaTime());
-        stage.draw();
-        
-        // Draw debug lines for table
-        Table.drawDebug(stage);
+		// Handle our Stage2d processing here (also draws table debug lines
+		// while the profiler overlay is shown)
+        renderStage(stage, Gdx.graphics.getDeltaTime());
 	}
 
 	@Override
@@ -83,13 +68,6 @@ public class LevelEndScreen<G extends GroupData<WoolyLevelData>> extends Abstrac
 		}
 		else {
 			if(isFirstTime()) {
-				// Create a hash map for looking up texture regions by string name found in SpriteComponent
-				spriteRegions = new HashMap<String, AtlasRegion>();
-				spriteTextureAtlas = gameManager.getAssetManager().get("sprites.pack");
-				// Create a map of each region available in our sprite TextureAtlas
-				for (AtlasRegion region : spriteTextureAtlas.getRegions()) {
-					spriteRegions.put(region.name, region);
-				}
 	
 				// Create our stage objects for the first time
 				createStage();
@@ -127,26 +105,14 @@ public class LevelEndScreen<G extends GroupData<WoolyLevelData>> extends Abstrac
 		// Clear the previous stage table
 		stageTable.clear();
 		
-        // Retrieve the font we will use for text messages
-		Texture fontTexture = new Texture(Gdx.files.internal("fonts/font_normal.png"));
-		fontTexture.setFilter(TextureFilter.Linear, TextureFilter.MipMapLinearLinear);
-		TextureRegion fontRegion = new TextureRegion(fontTexture);
-		BitmapFont labelFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		BitmapFont buttonFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		buttonFont.setUseIntegerPositions(false);
-
-		// Create our LabelStyle
-		LabelStyle labelStyle = new LabelStyle();
-		labelStyle.font = labelFont;
-		labelStyle.fontColor = Color.CYAN;
-
-		// Create our TextButtonStyle
-		TextButtonStyle buttonStyle = new TextButtonStyle();
-		//style.up = new TextureRegionDrawable(upRegion);
-		//style.down = new TextureRegionDrawable(downRegion);
-		buttonStyle.font = buttonFont;
-		buttonStyle.fontColor = Color.WHITE;
-		buttonStyle.overFontColor = Color.YELLOW;
+        // Retrieve the shared fonts and styles we will use for text messages
+		StyleCache styles = getStyles();
+
+		// Use the shared LabelStyle
+		LabelStyle labelStyle = styles.getLabelStyle();
+
+		// Use the shared TextButtonStyle
+		TextButtonStyle buttonStyle = styles.getButtonStyle();
 		
 		// Create our button listener
 		ButtonListener buttonListener = new ButtonListener();
@@ -157,9 +123,26 @@ public class LevelEndScreen<G extends GroupData<WoolyLevelData>> extends Abstrac
 			// Mark level complete
 			levelData.completed = true;
 
-			// TODO: Unlock the next level to play
+			// Unlock the next level to play (if any)
+			G groupData = gameManager.data.getCurrentGroup();
+			ProgressJournal journal = gameManager.getJournal();
+			if(levelData.levelId+1 < groupData.levels.getSize()) {
+				WoolyLevelData nextLevel = groupData.levels.getLevel(groupData.getNextLevel(levelData.levelId+1));
+				if(nextLevel != null && nextLevel.locked) {
+					nextLevel.locked = false;
+					journal.record(groupData, nextLevel, 0);
+				}
+			}
 			
-			// TODO: Save group information for this level being completed
+			// Save group information for this level being completed (appended
+			// to the progress journal). The fences left over are its result:
+			// every level starts with a fixed number of fences, so the fewer
+			// used to pen the animals the better the solution, and the highest
+			// result recorded is the best one
+			journal.record(groupData, levelData, levelData.current.numFences);
+			if(journal.needsCompaction()) {
+				gameManager.saveData();
+			}
 
 			// Add title
 			title = new Label("Congratulations!", labelStyle);
@@ -209,6 +192,9 @@ public class LevelEndScreen<G extends GroupData<WoolyLevelData>> extends Abstrac
 		
 		// Give stage a chance to dispose itself
 		stage.dispose();
+
+		// Call our parent class implementation last (releases our shared styles)
+		super.dispose();
 	}
 	
 	/**
@@ -1,12 +1,5 @@
 package com.cosmicrover.woolyfarm.screens;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -18,9 +11,11 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.cosmicrover.core.GameEnvironment.Platform;
 import com.cosmicrover.core.assets.GameData;
 import com.cosmicrover.core.GameManager;
+import com.cosmicrover.core.ui.utils.StyleCache;
 import com.cosmicrover.woolyfarm.assets.MapData.Sprites;
 import com.cosmicrover.woolyfarm.assets.WoolyGroupData;
 import com.cosmicrover.woolyfarm.assets.WoolyLevelData;
+import com.cosmicrover.woolyfarm.ui.FarmMapActor.MapEdge;
 
 public class LevelPlayScreen extends LevelScreen<WoolyGroupData> {
 	protected Label fencesLabel = null;
@@ -28,44 +23,48 @@ public class LevelPlayScreen extends LevelScreen<WoolyGroupData> {
 	protected Label levelNameLabel = null;
 	protected Button hintButton = null;
 
+	/// Number of levels following the level being played to prefetch
+	private static final int PREFETCH_LEVELS = 1;
+
 	public LevelPlayScreen(GameManager<WoolyLevelData, WoolyGroupData> gameManager, int screenId) {
 		super("LevelPlayScreen", GameData.LEVEL_PLAY_SCREEN, gameManager, screenId);
 	}
+
+	@Override
+	public void show() {
+		// Call our base class implementation (loads our level if needed)
+		super.show();
+
+		// Level ready to play? then start loading the next levels of the group
+		if(levelData != null && levelData.loaded) {
+			prefetchLevels(gameManager.data.getCurrentGroup(), levelData, PREFETCH_LEVELS);
+		}
+	}
 	
 	@Override
-	protected Music createMusic() {
-		// Retrieve our level play music track
-		return Gdx.audio.newMusic(Gdx.files.internal("music/level_play.mp3"));
+	public String getMusicFilename() {
+		// Our level play music track
+		return "music/level_play.mp3";
 	}
 	
 	@Override
 	protected void createInfoBar() {
         // Create our information bar starting by gathering texture regions for each icon in our information bar
-        TextureRegionDrawable fencesIcon = new TextureRegionDrawable(spriteRegions.get("fences_icon"));
-        TextureRegionDrawable dogsIcon = new TextureRegionDrawable(spriteRegions.get("dogs_icon"));
-        TextureRegionDrawable backIcon = new TextureRegionDrawable(spriteRegions.get("level_select_icon"));
-        //TextureRegionDrawable nextIcon = new TextureRegionDrawable(spriteRegions.get("next_icon"));
-        TextureRegionDrawable resetIcon = new TextureRegionDrawable(spriteRegions.get("restart_icon"));
-        TextureRegionDrawable hintIcon = new TextureRegionDrawable(spriteRegions.get("hint_icon"));
-
-        // Retrieve the font we will use for text messages
-		Texture fontTexture = new Texture(Gdx.files.internal("fonts/font_normal.png"));
-		fontTexture.setFilter(TextureFilter.Linear, TextureFilter.MipMapLinearLinear);
-		TextureRegion fontRegion = new TextureRegion(fontTexture);
-		BitmapFont labelFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		BitmapFont buttonFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		buttonFont.setUseIntegerPositions(false);
-
-		// Create our LabelStyle
-		LabelStyle labelStyle = new LabelStyle();
-		labelStyle.font = labelFont;
-		labelStyle.fontColor = Color.CYAN;
-
-		// Create our TextButtonStyle
-		TextButtonStyle buttonStyle = new TextButtonStyle();
-		buttonStyle.font = buttonFont;
-		buttonStyle.fontColor = Color.WHITE;
-		buttonStyle.overFontColor = Color.YELLOW;
+        TextureRegionDrawable fencesIcon = spriteDrawables.get("fences_icon");
+        TextureRegionDrawable dogsIcon = spriteDrawables.get("dogs_icon");
+        TextureRegionDrawable backIcon = spriteDrawables.get("level_select_icon");
+        //TextureRegionDrawable nextIcon = spriteDrawables.get("next_icon");
+        TextureRegionDrawable resetIcon = spriteDrawables.get("restart_icon");
+        TextureRegionDrawable hintIcon = spriteDrawables.get("hint_icon");
+
+        // Retrieve the shared fonts and styles we will use for text messages
+		StyleCache styles = getStyles();
+
+		// Use the shared LabelStyle
+		LabelStyle labelStyle = styles.getLabelStyle();
+
+		// Use the shared TextButtonStyle
+		TextButtonStyle buttonStyle = styles.getButtonStyle();
 		
 		// Add back button on left (for non mobile platforms)
 		Table leftTable = new Table();
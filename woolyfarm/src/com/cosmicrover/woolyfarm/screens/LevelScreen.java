@@ -1,59 +1,63 @@
 package com.cosmicrover.woolyfarm.screens;
 
-import java.util.HashMap;
-
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL10;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
-import com.badlogic.gdx.scenes.scene2d.ui.Stack;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Array;
 import com.cosmicrover.core.GameManager;
+import com.cosmicrover.core.GroupPack;
+import com.cosmicrover.core.LoadQueue;
+import com.cosmicrover.core.LoadRequest;
 import com.cosmicrover.core.assets.GameData;
 import com.cosmicrover.core.assets.GroupData;
 import com.cosmicrover.core.assets.loaders.JsonDataLoader;
 import com.cosmicrover.core.screens.AbstractScreen;
-import com.cosmicrover.core.screens.LoadingScreen;
-import com.cosmicrover.core.ui.utils.AnimationDrawable;
+import com.cosmicrover.core.ui.utils.AtlasDrawables;
+import com.cosmicrover.woolyfarm.assets.LevelBinary;
 import com.cosmicrover.woolyfarm.assets.MapData.Sprites;
 import com.cosmicrover.woolyfarm.assets.WoolyLevelData;
+import com.cosmicrover.woolyfarm.assets.loaders.LevelBinaryLoader;
+import com.cosmicrover.woolyfarm.ui.FarmMapActor;
+import com.cosmicrover.woolyfarm.ui.FarmMapActor.MapEdge;
+import com.cosmicrover.woolyfarm.ui.FarmMapActor.MapListener;
 
 public abstract class LevelScreen<G extends GroupData<WoolyLevelData>> extends AbstractScreen<WoolyLevelData,G> {
+	/// Redraw rate needed to keep the map animals and water moving while idle
+	private static final float MAP_FRAME_RATE = 10.0f;
+
 	/// Scene2d used by this Screen
 	protected Stage stage = null;
 	protected Table stageTable = null;
-	private Table groundTable = null;
-	private Table actionTable = null;
-	private Table horizontalEdges = null;
-	private Table verticalEdgesAndSquares = null;
-	private Music music = null;
+	private FarmMapActor mapActor = null;
+	private ScrollPane levelScrollPane = null;
 	protected Button restartButton = null;
 	protected Button backButton = null;
 	protected ButtonListener buttonListener = null;
 	protected WoolyLevelData levelData = null;
 
-	protected enum MapEdge {
-		Horizontal,
-		Vertical
-	};
-	
-	/// Maps region name to AtlasRegion information to texture
-	protected HashMap<String, AtlasRegion> spriteRegions;
+	/// Volume of the music track of each level screen
+	private static final float MUSIC_VOLUME = 0.5f;
+
+	/// TextureAtlas used by the level screens (part of our asset manifest)
+	private static final String SPRITE_ATLAS = "sprites.pack";
 
-	/// TextureAtlas that can carve up the sprite texture to show the correct texture
-	private TextureAtlas spriteTextureAtlas;
+	/// Shared drawables for each region of our sprite TextureAtlas
+	protected AtlasDrawables spriteDrawables;
+
+	/// Load requests made by this screen (cancelled when the player backs out)
+	protected final Array<LoadRequest<?>> levelLoads = new Array<LoadRequest<?>>();
 	
 	public LevelScreen(String screenName, int screenId, GameManager<WoolyLevelData,G> gameManager, int backScreenId) {
 		super(screenName, screenId, gameManager, backScreenId);
+
+		// Declare the TextureAtlas we need loaded before we are shown
+		addAsset(SPRITE_ATLAS, TextureAtlas.class);
 	}
 
 	@Override
@@ -62,12 +66,20 @@ public abstract class LevelScreen<G extends GroupData<WoolyLevelData>> extends A
 		Gdx.gl.glClearColor(0.0f, 0.0f, 0.0f, 1);
 		Gdx.gl10.glClear(GL10.GL_COLOR_BUFFER_BIT);
 		
-		// Handle our Stage2d processing here
-        stage.act(Gdx.graphics.getDeltaTime());
-        stage.draw();
-        
-        // Draw debug lines for table
-        Table.drawDebug(stage);
+		// Handle our Stage2d processing here (also draws table debug lines
+		// while the profiler overlay is shown)
+        renderStage(stage, Gdx.graphics.getDeltaTime());
+	}
+
+	@Override
+	public boolean isAnimating() {
+		// Keep rendering while the map is flinging or smooth scrolling
+		return isScrolling(levelScrollPane);
+	}
+
+	@Override
+	public float getMinimumFrameRate() {
+		return MAP_FRAME_RATE;
 	}
 
 	@Override
@@ -93,41 +105,48 @@ public abstract class LevelScreen<G extends GroupData<WoolyLevelData>> extends A
 		}
 		// Check to see if our level data has been loaded yet
 		else if(!levelData.loaded) {
-			// Add this level file to our assetMaanger to load next
-			gameManager.getAssetManager().load(levelData.getFilename(), WoolyLevelData.class,
-	    			new JsonDataLoader.Parameters<WoolyLevelData>(levelData));
-	    	
-	    	// Tell the AssetLoadingScreen to switch back to us when its done
-	    	LoadingScreen.setNextScreenId(GameData.LEVEL_PLAY_SCREEN);
+			// Level still being prefetched? then move it ahead of any background
+			// loads, otherwise load it now (the binary level file is used when
+			// available, otherwise the JSON one)
+			String filename = getLevelFilename(levelData);
+			LoadRequest<WoolyLevelData> request = gameManager.getPrefetcher().claim(filename);
+			if(request == null) {
+				request = gameManager.getLoadQueue().load(filename, WoolyLevelData.class,
+		    			new JsonDataLoader.Parameters<WoolyLevelData>(levelData),
+		    			LoadQueue.PRIORITY_INTERACTIVE, null);
+			}
+			levelLoads.add(request);
 	    	
-	    	// Switch to the AssetLoadingScreen
-	    	gameManager.setScreen(GameData.ASSET_LOADING_SCREEN);
+	    	// Switch to the AssetLoadingScreen and have it switch back to us when its done
+	    	gameManager.showLoadingScreen(GameData.ASSET_LOADING_SCREEN, screenId);
 		}
 		else {
-			// Create music object and start playing it now
-			music = createMusic();
-			if(music != null) {
-				// Set looping flag to true and music volume
-				music.setLooping(true);
-				music.setVolume(0.5f);
-				// Start playing the music track now
-				music.play();
-			}
+			// Mark our level as the most recently used one (may evict the
+			// maps of levels played long ago)
+			gameManager.getLevelCache().touch(levelData, getLevelFilename(levelData));
+
+			// Start playing our music track (looping, opened in the background
+			// if it isn't already open)
+			gameManager.getMusicManager().play(getMusicFilename(), MUSIC_VOLUME);
 			
+			// Retrieve the shared drawables for our sprite TextureAtlas (new drawables
+			// are returned if the atlas was unloaded since we were last shown)
+			AtlasDrawables drawables = gameManager.getDrawables(SPRITE_ATLAS);
+
 			if(isFirstTime()) {
-				// Create a hash map for looking up texture regions by string name found in SpriteComponent
-				spriteRegions = new HashMap<String, AtlasRegion>();
-				spriteTextureAtlas = gameManager.getAssetManager().get("sprites.pack");
-				// Create a map of each region available in our sprite TextureAtlas
-				for (AtlasRegion region : spriteTextureAtlas.getRegions()) {
-					spriteRegions.put(region.name, region);
-				}
+				spriteDrawables = drawables;
 	
 				// Create our stage objects for the first time
 				createStage();
 				
 				// Clear our first time flag
 				clearFirstTime();
+			} else if(drawables != spriteDrawables) {
+				// Our atlas was reloaded, recreate our stage with the new drawables
+				stage.dispose();
+				mapActor.dispose();
+				spriteDrawables = drawables;
+				createStage();
 			} else {
 				// TODO: Enable existing entities used only for this Screen
 			}
@@ -144,12 +163,8 @@ public abstract class LevelScreen<G extends GroupData<WoolyLevelData>> extends A
 	public void hide() {
 		// First time flag has been cleared? then clean up
 		if(!isFirstTime()) {
-			// Stop our music from playing and dispose it
-			if(music != null) {
-				music.stop();
-				music.dispose();
-				music = null;
-			}
+			// Stop our music from playing (the track stays open for a while)
+			gameManager.getMusicManager().stop();
 			
 			// Remove our Scene2d as an input processor
 			gameManager.getInputMultiplexer().removeProcessor(stage);
@@ -164,15 +179,22 @@ public abstract class LevelScreen<G extends GroupData<WoolyLevelData>> extends A
 
 	@Override
 	public void dispose() {
+		// Cancel any loads still pending for this screen
+		cancelLoads();
+
 		// Remove our Scene2d as an input processor
 		gameManager.getInputMultiplexer().removeProcessor(stage);
 		
 		// Give stage a chance to dispose itself
 		stage.dispose();
-	}
 
-	protected Music createMusic() {
-		return null;
+		// Release the static ground geometry of our map
+		if(mapActor != null) {
+			mapActor.dispose();
+		}
+
+		// Call our parent class implementation last (releases our shared styles)
+		super.dispose();
 	}
 
 	protected void createStage() {
@@ -200,29 +222,12 @@ public abstract class LevelScreen<G extends GroupData<WoolyLevelData>> extends A
 	protected abstract void createInfoBar();
 	
 	protected void createMap() {
-		// Create a table to hold the background images
-		groundTable = new Table();
-		//groundTable.debug();
-		
-		// Create a table to hold the animals and fence post images
-		actionTable = new Table();
-		//actionTable.debug();
-
-		// Create a table to hold the fences and fence post images
-		horizontalEdges = new Table();
-		//fenceHorizontalTable.debug();
-		verticalEdgesAndSquares = new Table();
-		//fenceVerticalTable.debug();
+		// Create the actor that draws the ground, fences and animals
+		mapActor = new FarmMapActor(spriteDrawables, gameManager.getAnimationClock());
+		mapActor.setMapListener(new MapClickListener());
 
-		// Create a stack to hold our two tables above
-		Stack scrollStack = new Stack();
-		scrollStack.add(groundTable);
-		scrollStack.add(horizontalEdges);
-		scrollStack.add(verticalEdgesAndSquares);
-		scrollStack.add(actionTable);
-		
-		// Create a scroll pane for the list of level buttons
-		ScrollPane levelScrollPane = new ScrollPane(scrollStack);
+		// Create a scroll pane for the map
+		levelScrollPane = new ScrollPane(mapActor);
 		stageTable.add(levelScrollPane).colspan(7).expand().fill();
 		stageTable.row();
 	}
@@ -238,251 +243,60 @@ public abstract class LevelScreen<G extends GroupData<WoolyLevelData>> extends A
 		levelData.resetLevel();
 	}
 
-	protected void updateLevelMap() {
-		// First clear our ground, animal, and fence tables of all their images
-		groundTable.clear();
-		actionTable.clear();
-		horizontalEdges.clear();
-		verticalEdgesAndSquares.clear();
-		
-		// Create a single TextureRegion for each type of graphic to be displayed
-        TextureRegionDrawable dirt1 = new TextureRegionDrawable(spriteRegions.get(Sprites.GroundDirt1.toString()));
-        TextureRegionDrawable dirt2 = new TextureRegionDrawable(spriteRegions.get(Sprites.GroundDirt2.toString()));
-        TextureRegionDrawable grass1 = new TextureRegionDrawable(spriteRegions.get(Sprites.GroundGrass1.toString()));
-        TextureRegionDrawable grass2 = new TextureRegionDrawable(spriteRegions.get(Sprites.GroundGrass2.toString()));
-        TextureRegionDrawable rock1 = new TextureRegionDrawable(spriteRegions.get(Sprites.GroundRock1.toString()));
-        TextureRegionDrawable rock2 = new TextureRegionDrawable(spriteRegions.get(Sprites.GroundRock2.toString()));
-        AnimationDrawable water1 = new AnimationDrawable(new Animation(3.0f, spriteTextureAtlas.findRegions(Sprites.GroundWater1.toString())));
-        water1.setPlayMode(Animation.LOOP);
-        AnimationDrawable water2 = new AnimationDrawable(new Animation(3.0f, spriteTextureAtlas.findRegions(Sprites.GroundWater2.toString())));
-        water2.setPlayMode(Animation.LOOP);
-        TextureRegionDrawable fencePost = new TextureRegionDrawable(spriteRegions.get(Sprites.FencePost.toString()));
-        TextureRegionDrawable fenceHorizontal = new TextureRegionDrawable(spriteRegions.get(Sprites.FenceHorizontal.toString()));
-        TextureRegionDrawable fenceVertical = new TextureRegionDrawable(spriteRegions.get(Sprites.FenceVertical.toString()));
-        TextureRegionDrawable fenceEmptyHorizontal = new TextureRegionDrawable(spriteRegions.get(Sprites.FenceHorizontalEmpty.toString()));
-        TextureRegionDrawable fenceEmptyVertical = new TextureRegionDrawable(spriteRegions.get(Sprites.FenceVerticalEmpty.toString()));
-        TextureRegionDrawable fenceBrokenHorizontal = new TextureRegionDrawable(spriteRegions.get(Sprites.FenceHorizontalBroken.toString()));
-        TextureRegionDrawable fenceBrokenVertical = new TextureRegionDrawable(spriteRegions.get(Sprites.FenceVerticalBroken.toString()));
-        TextureRegionDrawable horizontalSpacer = new TextureRegionDrawable(spriteRegions.get(Sprites.FenceHorizontalSpacer.toString()));
-        TextureRegionDrawable horizontalPostSpacer = new TextureRegionDrawable(spriteRegions.get(Sprites.FencePostHorizontalSpacer.toString()));
-        TextureRegionDrawable postSpacer = new TextureRegionDrawable(spriteRegions.get(Sprites.FencePostSpacer.toString()));
-        TextureRegionDrawable verticalSpacer = new TextureRegionDrawable(spriteRegions.get(Sprites.FenceVerticalSpacer.toString()));
-        TextureRegionDrawable animalNone = new TextureRegionDrawable(spriteRegions.get(Sprites.AnimalNone.toString()));
-
-        // Now create the animal map data
-		for(int row=0;row<levelData.current.rows; row++) {
-			for(int col=0; col<levelData.current.cols; col++) {
-				// Select alternating grass image
-				Image anGroundImage;
-				if(levelData == null) {
-					Gdx.app.error("LevelScreen", "levelData is null!");
-				} else if(levelData.current == null) {
-					Gdx.app.error("LevelScreen", "levelData.current is null!");
-				} else if(levelData.current.ground[row][col] == null) {
-					Gdx.app.error("LevelScreen", "levelData.current.ground is null at row="+row+",col="+col+"!");
-				}
-				switch(levelData.current.ground[row][col]) {
-				case GroundDirt1:
-					anGroundImage = new Image(dirt1);
-					break;
-				case GroundDirt2:
-					anGroundImage = new Image(dirt2);
-					break;
-				case GroundGrass1:
-					anGroundImage = new Image(grass1);
-					break;
-				case GroundGrass2:
-					anGroundImage = new Image(grass2);
-					break;
-				case GroundRock1:
-					anGroundImage = new Image(rock1);
-					break;
-				case GroundRock2:
-					anGroundImage = new Image(rock2);
-					break;
-				default:
-					Gdx.app.error("LevelScreen:updateLevelMap", "Unknown background type");
-				case GroundWater1:
-					anGroundImage = new Image(water1);
-					break;
-				case GroundWater2:
-					anGroundImage = new Image(water2);
-					break;
-				}
-
-				// Add the button to the table
-				groundTable.add(anGroundImage);
-			}
-			groundTable.row();
+	/**
+	 * Cancels the load requests this screen made that haven't completed yet
+	 * along with any level prefetches (called when the player backs out of
+	 * the level).
+	 */
+	protected void cancelLoads() {
+		for(LoadRequest<?> request : levelLoads) {
+			request.cancel();
 		}
+		levelLoads.clear();
+		gameManager.getPrefetcher().cancelAll();
+	}
 
-		// Create animals and fence post layer
-		for(int row=0;row<levelData.current.rows+1; row++) {
-			// First row? then add fence post spacers and horizontal spacers to vertical fence table
-			if(row == 0) {
-				for(int col=0; col<levelData.current.cols; col++) {
-					verticalEdgesAndSquares.add(new Image(postSpacer));
-					verticalEdgesAndSquares.add(new Image(horizontalSpacer));
-				}
-				// Add final fence post spacer to fence table
-				verticalEdgesAndSquares.add(new Image(postSpacer));
-				verticalEdgesAndSquares.row();
-			}
-			
-			// Add fence posts and horizontal spacers to animal table
-			for(int col=0; col<levelData.current.cols; col++) {
-				// Add initial fence post and horizontal spacer to the animal table
-				actionTable.add(new Image(fencePost));
-				Button anButtonHorizontal = new Button(horizontalSpacer);
-				anButtonHorizontal.addListener(buttonListener);
-				anButtonHorizontal.setName("he"+((row*(levelData.current.cols+1)) + col));
-				actionTable.add(anButtonHorizontal);
-
-				if(col == 0) {
-					// Add horizontal post spacer to fence table
-					horizontalEdges.add(new Image(horizontalPostSpacer));
-				}
-				// Add horizontal fence
-				Image anFenceHorizontal;
-				switch(levelData.current.horizontal[row][col]) {
-				case FenceHorizontalBroken:
-					anFenceHorizontal = new Image(fenceBrokenHorizontal);
-					break;
-				case FenceHorizontal:
-					anFenceHorizontal = new Image(fenceHorizontal);
-					break;
-				default:
-					Gdx.app.error("LevelPlayScreen:updateLevelMap", "Unknown horizontal fence type");
-				case FenceHorizontalEmpty:
-					anFenceHorizontal = new Image(fenceEmptyHorizontal);
-					break;
-				}
-				anFenceHorizontal.setName("he"+((row*(levelData.current.cols+1)) + col));
-				horizontalEdges.add(anFenceHorizontal);
-			}
-			// Add final fence post to the animal table
-			actionTable.add(new Image(fencePost));
-			actionTable.row();
-			// Add final fence post spacer to fence table
-			horizontalEdges.add(new Image(horizontalPostSpacer));
-			horizontalEdges.row();
-
-			// Skip the last row of vertical spacers and animals
-			if(row < levelData.current.rows) {
-				// Add vertical spacers and animals to animal table
-				for(int col=0; col<levelData.current.cols; col++) {
-					// Add vertical edge button to action table
-					Button anButtonVertical = new Button(verticalSpacer);
-					anButtonVertical.addListener(buttonListener);
-					anButtonVertical.setName("ve"+((row*(levelData.current.cols+1)) + col));
-					actionTable.add(anButtonVertical);
-
-					// Add map square button to action table
-					Button anButtonSquare = new Button(horizontalSpacer);
-					anButtonSquare.addListener(buttonListener);
-					anButtonSquare.setName("ms"+((row*(levelData.current.cols+1)) + col));
-					actionTable.add(anButtonSquare);
-
-					// Add vertical fence
-					Image anFenceVertical;
-					switch(levelData.current.vertical[row][col]) {
-					case FenceVerticalBroken:
-						anFenceVertical = new Image(fenceBrokenVertical);
-						break;
-					case FenceVertical:
-						anFenceVertical = new Image(fenceVertical);
-						break;
-					default:
-						Gdx.app.error("LevelPlayScreen:updateLevelMap", "Unknown vertical fence type");
-					case FenceVerticalEmpty:
-						anFenceVertical = new Image(fenceEmptyVertical);
-						break;
-					}
-					anFenceVertical.setName("ve"+((row*(levelData.current.cols+1)) + col));
-					verticalEdgesAndSquares.add(anFenceVertical);
-					
-					// Create animations for each animal type
-			        AnimationDrawable animalDuck = new AnimationDrawable(new Animation(0.7f, spriteTextureAtlas.findRegions(Sprites.AnimalDuck.toString())));
-			        animalDuck.setPlayMode(Animation.LOOP);
-			        animalDuck.setRandomStart();
-			        AnimationDrawable animalGoat = new AnimationDrawable(new Animation(0.7f, spriteTextureAtlas.findRegions(Sprites.AnimalGoat.toString())));
-			        animalGoat.setPlayMode(Animation.LOOP);
-			        animalGoat.setRandomStart();
-			        AnimationDrawable animalPig = new AnimationDrawable(new Animation(0.7f, spriteTextureAtlas.findRegions(Sprites.AnimalPig.toString())));
-			        animalPig.setPlayMode(Animation.LOOP);
-			        animalPig.setRandomStart();
-			        AnimationDrawable animalSheep = new AnimationDrawable(new Animation(0.7f, spriteTextureAtlas.findRegions(Sprites.AnimalSheep.toString())));
-			        animalSheep.setPlayMode(Animation.LOOP);
-			        animalSheep.setRandomStart();
-			        AnimationDrawable animalWolf = new AnimationDrawable(new Animation(0.7f, spriteTextureAtlas.findRegions(Sprites.AnimalWolf.toString())));
-			        animalWolf.setPlayMode(Animation.LOOP);
-			        animalWolf.setRandomStart();
-			        
-					Image anMapSquare;
-					switch(levelData.current.animals[row][col]) {
-					case AnimalDuck:
-						anMapSquare = new Image(animalDuck);
-						break;
-					case AnimalGoat:
-						anMapSquare = new Image(animalGoat);
-						break;
-					case AnimalPig:
-						anMapSquare = new Image(animalPig);
-						break;
-					case AnimalSheep:
-						anMapSquare = new Image(animalSheep);
-						break;
-					case AnimalWolf:
-						anMapSquare = new Image(animalWolf);
-						break;
-					default:
-						Gdx.app.error("LevelPlayScreen:updateLevelMap", "Unknown animal type");
-					case AnimalNone:
-						anMapSquare = new Image(animalNone);
-						break;
-					}
-					anMapSquare.setName("ms"+((row*(levelData.current.cols+1)) + col));
-					verticalEdgesAndSquares.add(anMapSquare);
-				}
-				// Add final vertical spacer on animal table
-				Button anButtonVertical = new Button(verticalSpacer);
-				anButtonVertical.addListener(buttonListener);
-				anButtonVertical.setName("ve"+((row*(levelData.current.cols+1)) + levelData.current.cols));
-				actionTable.add(anButtonVertical);
-				actionTable.row();
-				// Add final vertical spacer to horizontal fence table
-				horizontalEdges.add(new Image(verticalSpacer)).colspan(levelData.current.cols*2);
-				horizontalEdges.row();
-
-				// Add final vertical fence
-				Image anFenceVertical;
-				switch(levelData.current.vertical[row][levelData.current.cols]) {
-				case FenceVerticalBroken:
-					anFenceVertical = new Image(fenceBrokenVertical);
-					// Don't add listener for broken fences
-					break;
-				case FenceVertical:
-					anFenceVertical = new Image(fenceVertical);
-					break;
-				default:
-					Gdx.app.error("LevelPlayScreen:updateLevelMap", "Unknown vertical fence type");
-				case FenceVerticalEmpty:
-					anFenceVertical = new Image(fenceEmptyVertical);
-					break;
-				}
-				anFenceVertical.setName("ve"+((row*(levelData.current.cols+1)) + levelData.current.cols));
-				verticalEdgesAndSquares.add(anFenceVertical);
-				verticalEdgesAndSquares.row();
+	/**
+	 * Prefetches the levels following the level provided in its group (up to
+	 * count levels) so the Next button of the LevelEndScreen doesn't have to
+	 * go through the loading screen.
+	 * @param groupData of the level
+	 * @param levelData being played
+	 * @param count of levels to prefetch
+	 */
+	protected void prefetchLevels(G groupData, WoolyLevelData levelData, int count) {
+		int lastLevelId = Math.min(levelData.levelId + count, groupData.levels.getSize() - 1);
+		for(int levelId = levelData.levelId + 1; levelId <= lastLevelId; levelId++) {
+			WoolyLevelData nextLevel = groupData.levels.getLevel(groupData.getNextLevel(levelId));
+			if(nextLevel != null) {
+				gameManager.getPrefetcher().prefetch(nextLevel, getLevelFilename(nextLevel), WoolyLevelData.class,
+						new JsonDataLoader.Parameters<WoolyLevelData>(nextLevel));
 			}
 		}
-		// Add final row of spacers to vertical fence table
-		for(int col=0; col<levelData.current.cols; col++) {
-			verticalEdgesAndSquares.add(new Image(postSpacer));
-			verticalEdgesAndSquares.add(new Image(horizontalSpacer));
+	}
+
+	/**
+	 * Returns the file to load the level provided from, preferring the binary
+	 * level file (.lbf, local then internal), then the pack file of its group
+	 * and finally the legacy JSON level file (.ldf). Levels read from a group
+	 * pack keep their binary level filename (see LevelBinaryLoader).
+	 * @param levelData to load
+	 * @return filename of the level file to load
+	 */
+	protected String getLevelFilename(WoolyLevelData levelData) {
+		String result = levelData.getFilename();
+		String binaryFilename = LevelBinary.getFilename(result);
+		GroupPack groupPack = gameManager.getGroupPack(result);
+		if(LevelBinaryLoader.resolveLevel(binaryFilename).exists() ||
+		   (groupPack != null && groupPack.contains(levelData.levelId))) {
+			result = binaryFilename;
 		}
-		// Add final fence post spacer to fence table
-		verticalEdgesAndSquares.add(new Image(postSpacer));
-		verticalEdgesAndSquares.row();
+		return result;
+	}
+
+	protected void updateLevelMap() {
+		// The map actor draws straight from the current map data
+		mapActor.setMap(levelData.current);
 	}
 
 	/**
@@ -497,44 +311,8 @@ public abstract class LevelScreen<G extends GroupData<WoolyLevelData>> extends A
 				onResetClick();
 			} else if(actor.equals(backButton)) {
 				Gdx.app.log("LevelScreen:ButtonListener", "Back");
+				cancelLoads();
 				gameManager.setScreen(getBackScreenId());
-			} else if(actor.getName() != null) {
-				// Is this an map square being clicked?
-				if(actor.getName().startsWith("ms")) {
-					// Find the actor in our vertical fence and animal table
-					Actor anButton = verticalEdgesAndSquares.findActor(actor.getName());
-					if(anButton != null) {
-						// Toggle the fence at the location specified in the name (minus the ac characters)
-						int location = Integer.parseInt(anButton.getName().substring(2));
-						int row = location / (levelData.current.cols+1);
-						int col = location % (levelData.current.cols+1);
-						onMapSquareClick(row, col);
-					}
-				}
-				// Is this a vertical edge being clicked?
-				else if(actor.getName().startsWith("ve")) {
-					// Find the actor in our fence table
-					Actor anButton = verticalEdgesAndSquares.findActor(actor.getName());
-					if(anButton != null) {
-						// Toggle the fence at the location specified in the name (minus the vf characters)
-						int location = Integer.parseInt(anButton.getName().substring(2));
-						int row = location / (levelData.current.cols+1);
-						int col = location % (levelData.current.cols+1);
-						onMapEdgeClick(row, col, MapEdge.Vertical);
-					}
-				}
-				// Is this a horizontal edge being clicked?
-				else if(actor.getName().startsWith("he")) {
-					// Find the actor in our fence table
-					Actor anButton = horizontalEdges.findActor(actor.getName());
-					if(anButton != null) {
-						// Toggle the fence at the location specified in the name (minus the hf characters)
-						int location = Integer.parseInt(anButton.getName().substring(2));
-						int row = location / (levelData.current.cols+1);
-						int col = location % (levelData.current.cols+1);
-						onMapEdgeClick(row, col, MapEdge.Horizontal);
-					}
-				}
 			}
 			// Something else we don't know
 			else
@@ -543,4 +321,20 @@ public abstract class LevelScreen<G extends GroupData<WoolyLevelData>> extends A
 			}
 		}
 	}
+
+	/**
+	 * MapClickListener forwards the map square and fence edge clicks found by
+	 * our FarmMapActor to the derived screen.
+	 */
+	private class MapClickListener implements MapListener {
+		@Override
+		public void onMapSquareClick(int row, int col) {
+			LevelScreen.this.onMapSquareClick(row, col);
+		}
+
+		@Override
+		public void onMapEdgeClick(int row, int col, MapEdge mapEdge) {
+			LevelScreen.this.onMapEdgeClick(row, col, mapEdge);
+		}
+	}
 }
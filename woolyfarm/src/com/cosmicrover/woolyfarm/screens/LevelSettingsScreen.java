@@ -1,16 +1,10 @@
 package com.cosmicrover.woolyfarm.screens;
 
-import java.util.HashMap;
-
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL10;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -28,6 +22,8 @@ import com.cosmicrover.core.GameManager;
 import com.cosmicrover.core.GameEnvironment.Platform;
 import com.cosmicrover.core.assets.GameData;
 import com.cosmicrover.core.screens.AbstractScreen;
+import com.cosmicrover.core.ui.utils.AtlasDrawables;
+import com.cosmicrover.core.ui.utils.StyleCache;
 import com.cosmicrover.woolyfarm.assets.WoolyGroupData;
 import com.cosmicrover.woolyfarm.assets.WoolyLevelData;
 
@@ -48,14 +44,17 @@ public class LevelSettingsScreen extends AbstractScreen<WoolyLevelData, WoolyGro
 	private TextButton backButton = null;
 	protected WoolyLevelData levelData = null;
 
-	/// Maps region name to AtlasRegion information to texture
-	protected HashMap<String, AtlasRegion> spriteRegions;
+	/// TextureAtlas used by this screen (part of our asset manifest)
+	private static final String SPRITE_ATLAS = "sprites.pack";
 
-	/// TextureAtlas that can carve up the sprite texture to show the correct texture
-	private TextureAtlas spriteTextureAtlas;
+	/// Shared drawables for each region of our sprite TextureAtlas
+	private AtlasDrawables spriteDrawables;
 	
 	public LevelSettingsScreen(GameManager<WoolyLevelData, WoolyGroupData> gameManager, int backScreenId) {
 		super("LevelSettingsScreen", GameData.LEVEL_SETTINGS_SCREEN, gameManager, backScreenId);
+
+		// Declare the TextureAtlas we need loaded before we are shown
+		addAsset(SPRITE_ATLAS, TextureAtlas.class);
 		
 		// Note the creation of each screen in our debug log
 		Gdx.app.debug("LevelSettingsScreen", "Creating Level Settings screen");
@@ -67,12 +66,9 @@ public class LevelSettingsScreen extends AbstractScreen<WoolyLevelData, WoolyGro
 		Gdx.gl.glClearColor(0.0f, 0.0f, 0.3f, 1);
 		Gdx.gl10.glClear(GL10.GL_COLOR_BUFFER_BIT);
 		
-		// Handle our Stage2d processing here
-        stage.act(Gdx.graphics.getDeltaTime());
-        stage.draw();
-        
-        // Draw debug lines for table
-        Table.drawDebug(stage);
+		// Handle our Stage2d processing here (also draws table debug lines
+		// while the profiler overlay is shown)
+        renderStage(stage, Gdx.graphics.getDeltaTime());
 	}
 
 	@Override
@@ -109,20 +105,23 @@ public class LevelSettingsScreen extends AbstractScreen<WoolyLevelData, WoolyGro
 			gameManager.data.setCurrentLevel(levelData.getFilename());
 		}
 
+		// Retrieve the shared drawables for our sprite TextureAtlas (new drawables
+		// are returned if the atlas was unloaded since we were last shown)
+		AtlasDrawables drawables = gameManager.getDrawables(SPRITE_ATLAS);
+
 		if(isFirstTime()) {
-			// Create a hash map for looking up texture regions by string name found in SpriteComponent
-			spriteRegions = new HashMap<String, AtlasRegion>();
-			spriteTextureAtlas = gameManager.getAssetManager().get("sprites.pack");
-			// Create a map of each region available in our sprite TextureAtlas
-			for (AtlasRegion region : spriteTextureAtlas.getRegions()) {
-				spriteRegions.put(region.name, region);
-			}
+			spriteDrawables = drawables;
 
 			// Create our stage objects for the first time
 			createStage();
 
 			// Clear our first time flag
 			clearFirstTime();
+		} else if(drawables != spriteDrawables) {
+			// Our atlas was reloaded, recreate our stage with the new drawables
+			stage.dispose();
+			spriteDrawables = drawables;
+			createStage();
 		} else {
 			// TODO: Enable existing entities used only for this Screen
 		}
@@ -155,6 +154,9 @@ public class LevelSettingsScreen extends AbstractScreen<WoolyLevelData, WoolyGro
 		
 		// Give stage a chance to dispose itself
 		stage.dispose();
+
+		// Call our parent class implementation last (releases our shared styles)
+		super.dispose();
 	}
 	
 	private void updateLabels() {
@@ -180,33 +182,22 @@ public class LevelSettingsScreen extends AbstractScreen<WoolyLevelData, WoolyGro
         stage.addActor(stageTable);
 
         // Retrieve our text cursor icon
-        TextureRegionDrawable cursorIcon = new TextureRegionDrawable(spriteRegions.get("text_cursor_icon"));
+        TextureRegionDrawable cursorIcon = spriteDrawables.get("text_cursor_icon");
         
-        // Retrieve the font we will use for text messages
-		Texture fontTexture = new Texture(Gdx.files.internal("fonts/font_normal.png"));
-		fontTexture.setFilter(TextureFilter.Linear, TextureFilter.MipMapLinearLinear);
-		TextureRegion fontRegion = new TextureRegion(fontTexture);
-		BitmapFont labelFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		BitmapFont buttonFont = new BitmapFont(Gdx.files.internal("fonts/normal.fnt"), fontRegion, false);
-		buttonFont.setUseIntegerPositions(false);
-
-		// Create our LabelStyle
-		LabelStyle labelStyle = new LabelStyle();
-		labelStyle.font = labelFont;
-		labelStyle.fontColor = Color.CYAN;
+        // Retrieve the shared fonts and styles we will use for text messages
+		StyleCache styles = getStyles();
+		BitmapFont buttonFont = styles.getButtonFont();
+
+		// Use the shared LabelStyle
+		LabelStyle labelStyle = styles.getLabelStyle();
 
 		// Create and add our Title Label
 		titleLabel = new Label("Level Editor Settings", labelStyle);
 		stageTable.add(titleLabel).center().expandX().colspan(4);
 		stageTable.row();
 
-		// Create our TextButtonStyle
-		TextButtonStyle buttonStyle = new TextButtonStyle();
-		//style.up = new TextureRegionDrawable(upRegion);
-		//style.down = new TextureRegionDrawable(downRegion);
-		buttonStyle.font = buttonFont;
-		buttonStyle.fontColor = Color.WHITE;
-		buttonStyle.overFontColor = Color.YELLOW;
+		// Use the shared TextButtonStyle
+		TextButtonStyle buttonStyle = styles.getButtonStyle();
 		
 		// Create our button listener
 		ButtonListener buttonListener = new ButtonListener();
@@ -0,0 +1,439 @@
+package com.cosmicrover.woolyfarm.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.cosmicrover.core.ui.utils.AnimationClock;
+import com.cosmicrover.core.ui.utils.AtlasDrawables;
+import com.cosmicrover.woolyfarm.assets.MapData;
+import com.cosmicrover.woolyfarm.assets.MapData.Sprites;
+
+/**
+ * FarmMapActor draws the ground, fences, fence posts and animals of a MapData
+ * object straight from its sprite arrays in a single SpriteBatch pass. There
+ * are no per-cell actors, so layout has a constant cost no matter how large
+ * the map is. Clicks are turned into a map square or fence edge location
+ * with plain arithmetic and reported to the MapListener provided. When placed
+ * inside a ScrollPane only the rows and columns within the visible culling
+ * area are drawn, so the cost of each frame depends on the screen size rather
+ * than the map size. Ground tiles that never animate are baked into a
+ * SpriteCache (one cache per row) that is only rebuilt when the ground or the
+ * map size changes; animated water tiles are still drawn through the batch.
+ */
+public class FarmMapActor extends Widget implements Cullable, Disposable {
+	public enum MapEdge {
+		Horizontal,
+		Vertical
+	};
+
+	/**
+	 * MapListener is notified when a map square or fence edge is clicked.
+	 */
+	public interface MapListener {
+		public void onMapSquareClick(int row, int col);
+
+		public void onMapEdgeClick(int row, int col, MapEdge mapEdge);
+	}
+
+	/// Frame duration (in seconds) for the animated water tiles
+	private static final float WATER_FRAME_DURATION_S = 3.0f;
+
+	/// Frame duration (in seconds) for the animated animals
+	private static final float ANIMAL_FRAME_DURATION_S = 0.7f;
+
+	/// First frame of each sprite indexed by Sprites ordinal
+	private final TextureRegion[] regions;
+
+	/// Animation of each animated sprite indexed by Sprites ordinal (null if not animated)
+	private final Animation[] animations;
+
+	/// Width and height of the fence post column/row and map square column/row
+	private final float postWidth, postHeight, cellWidth, cellHeight;
+
+	/// The map being drawn
+	private MapData map = null;
+
+	/// Size of the map when setMap was last called
+	private int rows = 0;
+	private int cols = 0;
+
+	/// Shared clock used to pick the current frame of each animation
+	private final AnimationClock clock;
+
+	/// Listener notified of map square and fence edge clicks
+	private MapListener mapListener = null;
+
+	/// Visible area in our local coordinates provided by our ScrollPane parent (null if all visible)
+	private Rectangle cullingArea = null;
+
+	/// Static ground geometry (created on first use and grown as needed)
+	private SpriteCache groundCache = null;
+
+	/// Number of sprites our groundCache can hold
+	private int groundCacheSize = 0;
+
+	/// Cache id of each ground row (null if the cache must be rebuilt)
+	private int[] groundRowIds = null;
+
+	/// Index of the first cached sprite of each ground cell within its row (cols+1 entries per row)
+	private int[][] groundOffsets = null;
+
+	/// Ground sprites baked into our groundCache, used to detect ground changes
+	private Sprites[][] groundSnapshot = null;
+
+	/// Transform used to place the ground cache at our map position
+	private final Matrix4 groundTransform = new Matrix4();
+
+	public FarmMapActor(AtlasDrawables drawables, AnimationClock clock) {
+		this.clock = clock;
+
+		// Retrieve the first frame (and animation if several frames exist) for each sprite
+		Sprites[] sprites = Sprites.values();
+		TextureRegionDrawable[] table = drawables.getTable(sprites);
+		regions = new TextureRegion[sprites.length];
+		animations = new Animation[sprites.length];
+		for(Sprites sprite : sprites) {
+			if(table[sprite.ordinal()] != null) {
+				regions[sprite.ordinal()] = table[sprite.ordinal()].getRegion();
+			}
+			Array<AtlasRegion> frames = drawables.getAtlas().findRegions(sprite.toString());
+			if(frames.size > 1) {
+				float frameDuration = ANIMAL_FRAME_DURATION_S;
+				if(Sprites.GroundWater1 == sprite || Sprites.GroundWater2 == sprite) {
+					frameDuration = WATER_FRAME_DURATION_S;
+				}
+				animations[sprite.ordinal()] = new Animation(frameDuration, frames, Animation.LOOP);
+			}
+		}
+
+		// Fence post columns/rows and map square columns/rows use the spacer sizes
+		TextureRegion post = regions[Sprites.FencePost.ordinal()];
+		TextureRegion horizontalSpacer = regions[Sprites.FenceHorizontalSpacer.ordinal()];
+		TextureRegion verticalSpacer = regions[Sprites.FenceVerticalSpacer.ordinal()];
+		postWidth = Math.max(post.getRegionWidth(), verticalSpacer.getRegionWidth());
+		postHeight = Math.max(post.getRegionHeight(), horizontalSpacer.getRegionHeight());
+		cellWidth = horizontalSpacer.getRegionWidth();
+		cellHeight = Math.max(verticalSpacer.getRegionHeight(), horizontalSpacer.getRegionHeight());
+
+		// Add a single click listener for the whole map
+		addListener(new ClickListener() {
+			@Override
+			public void clicked(InputEvent event, float x, float y) {
+				onClick(x, y);
+			}
+		});
+	}
+
+	/**
+	 * Sets the listener to notify when a map square or fence edge is clicked.
+	 * @param mapListener to notify (or null for none)
+	 */
+	public void setMapListener(MapListener mapListener) {
+		this.mapListener = mapListener;
+	}
+
+	/**
+	 * Sets the map to draw. The fence and animal arrays are read every frame,
+	 * so this only needs to be called again when a different map is shown or
+	 * the ground, rows or columns of the map change.
+	 * @param map to draw
+	 */
+	public void setMap(MapData map) {
+		this.map = map;
+
+		// Update our preferred size if the map size changed
+		if(rows != map.rows || cols != map.cols) {
+			rows = map.rows;
+			cols = map.cols;
+			invalidateHierarchy();
+			invalidateGround();
+		} else if(!isGroundCached()) {
+			invalidateGround();
+		}
+	}
+
+	/**
+	 * Forces the static ground layer to be rebuilt on the next draw.
+	 */
+	public void invalidateGround() {
+		groundRowIds = null;
+	}
+
+	public MapData getMap() {
+		return map;
+	}
+
+	/**
+	 * @return width of the map content (fence posts included)
+	 */
+	public float getMapWidth() {
+		return cols*cellWidth + (cols+1)*postWidth;
+	}
+
+	/**
+	 * @return height of the map content (fence posts included)
+	 */
+	public float getMapHeight() {
+		return rows*cellHeight + (rows+1)*postHeight;
+	}
+
+	@Override
+	public void setCullingArea(Rectangle cullingArea) {
+		this.cullingArea = cullingArea;
+	}
+
+	@Override
+	public float getPrefWidth() {
+		return getMapWidth();
+	}
+
+	@Override
+	public float getPrefHeight() {
+		return getMapHeight();
+	}
+
+	@Override
+	public void draw(SpriteBatch batch, float parentAlpha) {
+		if(map == null) {
+			return;
+		}
+		validate();
+
+		Color color = getColor();
+		batch.setColor(color.r, color.g, color.b, color.a * parentAlpha);
+
+		// Map content is centered within our bounds, rows go top to bottom
+		float strideX = cellWidth + postWidth;
+		float strideY = cellHeight + postHeight;
+		float offsetX = (getWidth() - getMapWidth()) / 2;
+		float offsetY = (getHeight() + getMapHeight()) / 2;
+		float left = getX() + offsetX;
+		float top = getY() + offsetY;
+		float squareX = left + postWidth + cellWidth / 2;
+		float squareY = top - postHeight - cellHeight / 2;
+		float postX = left + postWidth / 2;
+		float postY = top - postHeight / 2;
+
+		// Determine the fence post rows/columns that are visible (one extra
+		// on each side for sprites that overlap their neighbours)
+		int firstRow = 0;
+		int firstCol = 0;
+		int lastRow = rows;
+		int lastCol = cols;
+		if(cullingArea != null) {
+			float mapLeft = cullingArea.x - offsetX;
+			float mapRight = mapLeft + cullingArea.width;
+			float mapTop = offsetY - (cullingArea.y + cullingArea.height);
+			float mapBottom = mapTop + cullingArea.height;
+			firstCol = Math.max(0, (int)Math.floor(mapLeft / strideX) - 1);
+			lastCol = Math.min(cols, (int)Math.floor(mapRight / strideX) + 1);
+			firstRow = Math.max(0, (int)Math.floor(mapTop / strideY) - 1);
+			lastRow = Math.min(rows, (int)Math.floor(mapBottom / strideY) + 1);
+		}
+
+		// Map squares end one column/row before the last fence post
+		int lastSquareRow = Math.min(rows - 1, lastRow);
+		int lastSquareCol = Math.min(cols - 1, lastCol);
+
+		// Static ground layer (the cache is baked untinted, so fall back to
+		// the batch while our color or alpha differs from opaque white)
+		boolean useCache = color.r == 1.0f && color.g == 1.0f && color.b == 1.0f && color.a * parentAlpha == 1.0f;
+		if(useCache && firstRow <= lastSquareRow && firstCol <= lastSquareCol) {
+			if(groundRowIds == null) {
+				buildGroundCache(strideX, strideY);
+			}
+			batch.end();
+			groundTransform.set(batch.getTransformMatrix()).translate(left, top - getMapHeight(), 0.0f);
+			groundCache.setProjectionMatrix(batch.getProjectionMatrix());
+			groundCache.setTransformMatrix(groundTransform);
+			Gdx.gl.glEnable(GL10.GL_BLEND);
+			Gdx.gl.glBlendFunc(GL10.GL_SRC_ALPHA, GL10.GL_ONE_MINUS_SRC_ALPHA);
+			groundCache.begin();
+			for(int row=firstRow; row<=lastSquareRow; row++) {
+				int offset = groundOffsets[row][firstCol];
+				int length = groundOffsets[row][lastSquareCol+1] - offset;
+				if(length > 0) {
+					groundCache.draw(groundRowIds[row], offset, length);
+				}
+			}
+			groundCache.end();
+			batch.begin();
+		}
+
+		// Animated ground layer (and static ground when not using the cache)
+		for(int row=firstRow; row<=lastSquareRow; row++) {
+			for(int col=firstCol; col<=lastSquareCol; col++) {
+				Sprites ground = map.ground[row][col];
+				if(ground != null && (!useCache || animations[ground.ordinal()] != null)) {
+					drawCentered(batch, getFrame(ground, 0.0f), squareX + col*strideX, squareY - row*strideY);
+				}
+			}
+		}
+
+		// Horizontal fence layer
+		for(int row=firstRow; row<=lastRow; row++) {
+			for(int col=firstCol; col<=lastSquareCol; col++) {
+				drawCentered(batch, getFrame(map.horizontal[row][col], 0.0f), squareX + col*strideX, postY - row*strideY);
+			}
+		}
+
+		// Vertical fence and animal layer
+		for(int row=firstRow; row<=lastSquareRow; row++) {
+			for(int col=firstCol; col<=lastCol; col++) {
+				drawCentered(batch, getFrame(map.vertical[row][col], 0.0f), postX + col*strideX, squareY - row*strideY);
+			}
+			for(int col=firstCol; col<=lastSquareCol; col++) {
+				drawCentered(batch, getFrame(map.animals[row][col], AnimationClock.getPhase(row, col)), squareX + col*strideX, squareY - row*strideY);
+			}
+		}
+
+		// Fence post layer
+		TextureRegion post = regions[Sprites.FencePost.ordinal()];
+		for(int row=firstRow; row<=lastRow; row++) {
+			for(int col=firstCol; col<=lastCol; col++) {
+				drawCentered(batch, post, postX + col*strideX, postY - row*strideY);
+			}
+		}
+	}
+
+	@Override
+	public void dispose() {
+		if(groundCache != null) {
+			groundCache.dispose();
+			groundCache = null;
+		}
+		groundRowIds = null;
+	}
+
+	/**
+	 * @return true if our ground cache was built from the ground of the current map
+	 */
+	private boolean isGroundCached() {
+		boolean result = groundRowIds != null && groundSnapshot != null &&
+				groundSnapshot.length == rows;
+		for(int row=0; result && row<rows; row++) {
+			for(int col=0; result && col<cols; col++) {
+				result = groundSnapshot[row][col] == map.ground[row][col];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Bakes every non animated ground tile into our groundCache, one cache per
+	 * row, positioned relative to the bottom left corner of the map content.
+	 * @param strideX distance between map square columns
+	 * @param strideY distance between map square rows
+	 */
+	private void buildGroundCache(float strideX, float strideY) {
+		// Create (or grow) our cache so that every map square fits
+		int size = Math.max(1, rows*cols);
+		if(groundCache == null || groundCacheSize < size) {
+			if(groundCache != null) {
+				groundCache.dispose();
+			}
+			groundCache = new SpriteCache(size, false);
+			groundCacheSize = size;
+		}
+		groundCache.clear();
+
+		groundRowIds = new int[rows];
+		groundOffsets = new int[rows][cols+1];
+		groundSnapshot = new Sprites[rows][cols];
+		float squareX = postWidth + cellWidth / 2;
+		float squareY = getMapHeight() - postHeight - cellHeight / 2;
+		for(int row=0; row<rows; row++) {
+			int count = 0;
+			groundCache.beginCache();
+			for(int col=0; col<cols; col++) {
+				Sprites ground = map.ground[row][col];
+				groundSnapshot[row][col] = ground;
+				groundOffsets[row][col] = count;
+				if(ground != null && animations[ground.ordinal()] == null && regions[ground.ordinal()] != null) {
+					TextureRegion region = regions[ground.ordinal()];
+					float width = region.getRegionWidth();
+					float height = region.getRegionHeight();
+					groundCache.add(region, squareX + col*strideX - width / 2, squareY - row*strideY - height / 2, width, height);
+					count++;
+				}
+			}
+			groundOffsets[row][cols] = count;
+			groundRowIds[row] = groundCache.endCache();
+		}
+	}
+
+	/**
+	 * Converts a click in our local coordinates (scroll offsets are already
+	 * applied by our ScrollPane parent) into a map square or fence edge
+	 * location and notifies our MapListener. Clicks on fence posts or outside
+	 * the map content are ignored.
+	 * @param x position of the click
+	 * @param y position of the click
+	 */
+	private void onClick(float x, float y) {
+		// Convert to a position relative to the top left corner of the map content
+		float mapX = x - (getWidth() - getMapWidth()) / 2;
+		float mapY = (getHeight() + getMapHeight()) / 2 - y;
+		if(mapListener == null || map == null || mapX < 0 || mapY < 0 ||
+		   mapX >= getMapWidth() || mapY >= getMapHeight()) {
+			return;
+		}
+
+		// Each column/row starts with a fence post followed by a map square
+		float strideX = cellWidth + postWidth;
+		float strideY = cellHeight + postHeight;
+		int col = (int)(mapX / strideX);
+		int row = (int)(mapY / strideY);
+		boolean postColumn = mapX - col*strideX < postWidth;
+		boolean postRow = mapY - row*strideY < postHeight;
+
+		if(postColumn && !postRow) {
+			mapListener.onMapEdgeClick(row, col, MapEdge.Vertical);
+		} else if(!postColumn && postRow) {
+			mapListener.onMapEdgeClick(row, col, MapEdge.Horizontal);
+		} else if(!postColumn && !postRow) {
+			mapListener.onMapSquareClick(row, col);
+		}
+	}
+
+	/**
+	 * Returns the frame to draw for the sprite provided.
+	 * @param sprite to draw
+	 * @param phase added to the animation time for animated sprites
+	 * @return frame to draw or null if nothing should be drawn
+	 */
+	private TextureRegion getFrame(Sprites sprite, float phase) {
+		TextureRegion result = null;
+		if(sprite != null) {
+			Animation animation = animations[sprite.ordinal()];
+			if(animation != null) {
+				result = animation.getKeyFrame(clock.getTime() + phase);
+			} else {
+				result = regions[sprite.ordinal()];
+			}
+		}
+		return result;
+	}
+
+	private static void drawCentered(SpriteBatch batch, TextureRegion region, float centerX, float centerY) {
+		if(region != null) {
+			float width = region.getRegionWidth();
+			float height = region.getRegionHeight();
+			batch.draw(region, centerX - width / 2, centerY - height / 2, width, height);
+		}
+	}
+}